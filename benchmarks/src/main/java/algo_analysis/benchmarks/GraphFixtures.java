@@ -0,0 +1,73 @@
+package algo_analysis.benchmarks;
+
+import algo_analysis.dto.GraphData;
+import algo_analysis.generator.GeneratedGraph;
+import algo_analysis.generator.GraphGenerator;
+import algo_analysis.io.JsonInputWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Seeded benchmark graphs built with GraphGenerator, every shape is connected
+ */
+public final class GraphFixtures {
+
+    public enum Shape {
+        SPARSE,   // average degree 8
+        DENSE,    // 10% of all vertex pairs
+        GRID,     // square lattice, rounded to a whole side
+        COMPLETE  // all vertex pairs
+    }
+
+    private GraphFixtures() {}
+
+    public static GraphData create(Shape shape, int vertices, long seed) {
+        return generate(shape, vertices, seed).toGraphData(1);
+    }
+
+    public static GeneratedGraph generate(Shape shape, int vertices, long seed) {
+        GraphGenerator generator = new GraphGenerator(seed);
+        try {
+            switch (shape) {
+                case SPARSE: {
+                    GeneratedGraph graph = new GeneratedGraph(vertices, 4 * vertices);
+                    generator.random(vertices, 4L * vertices, true, graph);
+                    return graph;
+                }
+                case DENSE: {
+                    GeneratedGraph graph = new GeneratedGraph(vertices);
+                    generator.random(vertices, (long) vertices * (vertices - 1) / 20, true, graph);
+                    return graph;
+                }
+                case GRID: {
+                    int side = Math.max(1, (int) Math.round(Math.sqrt(vertices)));
+                    GeneratedGraph graph = new GeneratedGraph(side * side);
+                    generator.grid(side, side, graph);
+                    return graph;
+                }
+                case COMPLETE: {
+                    GeneratedGraph graph = new GeneratedGraph(vertices);
+                    generator.complete(vertices, graph);
+                    return graph;
+                }
+                default:
+                    throw new IllegalArgumentException("Unknown shape: " + shape);
+            }
+        } catch (IOException e) {
+            // in-memory sinks never throw
+            throw new UncheckedIOException(e);
+        }
+    }
+
+//    write graphs in the input.json layout
+    public static void writeInput(List<GraphData> graphs, Path file) throws IOException {
+        try (JsonInputWriter writer = JsonInputWriter.open(file.toString())) {
+            for (GraphData data : graphs) {
+                writer.write(data);
+            }
+        }
+    }
+}
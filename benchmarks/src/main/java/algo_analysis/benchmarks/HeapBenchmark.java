@@ -0,0 +1,43 @@
+package algo_analysis.benchmarks;
+
+import algo_analysis.algorithms.IndexPriorityQueue;
+import algo_analysis.algorithms.PrimAlgorithm;
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.io.JSONHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSR Prim on every IndexPriorityQueue implementation, same graphs as MSTBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeapBenchmark {
+
+    @Param({"SPARSE", "DENSE", "GRID"})
+    public GraphFixtures.Shape shape;
+
+    @Param({"2000", "10000"})
+    public int vertices;
+
+    @Param({"BINARY", "FOUR_ARY", "PAIRING", "RADIX"})
+    public IndexPriorityQueue.Type heap;
+
+    private CsrGraph<String> csr;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        csr = JSONHandler.buildCsrGraph(GraphFixtures.create(shape, vertices, 42));
+    }
+
+    @Benchmark
+    public AlgorithmResult primCsr() {
+        return PrimAlgorithm.findMST(csr, heap);
+    }
+}
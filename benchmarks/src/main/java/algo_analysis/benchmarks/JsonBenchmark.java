@@ -0,0 +1,72 @@
+package algo_analysis.benchmarks;
+
+import algo_analysis.algorithms.BoruvkaAlgorithm;
+import algo_analysis.algorithms.KruskalAlgorithm;
+import algo_analysis.algorithms.PrimAlgorithm;
+import algo_analysis.dto.GraphData;
+import algo_analysis.dto.GraphResult;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.io.JSONHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSONHandler input parsing and output writing on generated files
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+
+    @Param({"1000", "20000"})
+    public int vertices;
+
+    private Path inputFile;
+    private Path outputFile;
+    private List<GraphResult> results;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        GraphData data = GraphFixtures.create(GraphFixtures.Shape.SPARSE, vertices, 42);
+
+        inputFile = Files.createTempFile("mst-bench-input", ".json");
+        outputFile = Files.createTempFile("mst-bench-output", ".json");
+        GraphFixtures.writeInput(Collections.singletonList(data), inputFile);
+
+        // same sections as a Main run, heap Prim stands in for the O(E * V) edge scan
+        CsrGraph<String> csr = JSONHandler.buildCsrGraph(data);
+        GraphResult result = new GraphResult(data.id, data.nodes.size(), data.edges.size());
+        result.components = 1;
+        result.largestComponent = data.nodes.size();
+        result.primResult = PrimAlgorithm.findMST(csr);
+        result.kruskalResult = KruskalAlgorithm.findMST(csr);
+        result.boruvkaResult = BoruvkaAlgorithm.findMST(csr);
+        results = Collections.singletonList(result);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(inputFile);
+        Files.deleteIfExists(outputFile);
+    }
+
+    @Benchmark
+    public List<GraphData> parseInput() throws IOException {
+        return JSONHandler.readInput(inputFile.toString());
+    }
+
+    @Benchmark
+    public Path writeOutput() throws IOException {
+        JSONHandler.writeOutput(outputFile.toString(), results);
+        return outputFile;
+    }
+}
@@ -0,0 +1,39 @@
+package algo_analysis.benchmarks;
+
+import algo_analysis.algorithms.PrimAlgorithm;
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.entity.Graph;
+import algo_analysis.io.JSONHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The original O(E * V) edge scan Prim, kept to small sizes so a full run stays practical
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LegacyPrimBenchmark {
+
+    @Param({"SPARSE", "DENSE", "GRID"})
+    public GraphFixtures.Shape shape;
+
+    @Param({"100", "500"})
+    public int vertices;
+
+    private Graph<String> graph;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        graph = JSONHandler.buildGraph(GraphFixtures.create(shape, vertices, 42));
+    }
+
+    @Benchmark
+    public AlgorithmResult primEdgeScan() {
+        return PrimAlgorithm.findMST(graph, PrimAlgorithm.Strategy.EDGE_SCAN);
+    }
+}
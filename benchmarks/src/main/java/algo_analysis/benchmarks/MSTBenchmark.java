@@ -0,0 +1,91 @@
+package algo_analysis.benchmarks;
+
+import algo_analysis.algorithms.BoruvkaAlgorithm;
+import algo_analysis.algorithms.DensePrimAlgorithm;
+import algo_analysis.algorithms.KruskalAlgorithm;
+import algo_analysis.algorithms.PrimAlgorithm;
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.GraphData;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.DenseGraph;
+import algo_analysis.entity.Graph;
+import algo_analysis.io.JSONHandler;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MST engines on Graph and CsrGraph inputs of different shapes and sizes
+ * The edge scan Prim is O(E * V) and lives in LegacyPrimBenchmark with smaller sizes
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MSTBenchmark {
+
+    @Param({"SPARSE", "DENSE", "GRID", "COMPLETE"})
+    public GraphFixtures.Shape shape;
+
+    @Param({"500", "2000"})
+    public int vertices;
+
+    private Graph<String> graph;
+    private CsrGraph<String> csr;
+    private DenseGraph<String> matrix;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        GraphData data = GraphFixtures.create(shape, vertices, 42);
+        graph = JSONHandler.buildGraph(data);
+        csr = JSONHandler.buildCsrGraph(data);
+        matrix = JSONHandler.buildDenseGraph(data);
+    }
+
+    @Benchmark
+    public AlgorithmResult primLazyHeap() {
+        return PrimAlgorithm.findMST(graph, PrimAlgorithm.Strategy.LAZY_HEAP);
+    }
+
+    @Benchmark
+    public AlgorithmResult primEagerHeap() {
+        return PrimAlgorithm.findMST(graph, PrimAlgorithm.Strategy.EAGER_HEAP);
+    }
+
+    @Benchmark
+    public AlgorithmResult primCsr() {
+        return PrimAlgorithm.findMST(csr);
+    }
+
+    @Benchmark
+    public AlgorithmResult primDenseMatrix() {
+        return DensePrimAlgorithm.findMST(matrix);
+    }
+
+    @Benchmark
+    public AlgorithmResult kruskalGraph() {
+        return KruskalAlgorithm.findMST(graph);
+    }
+
+    @Benchmark
+    public AlgorithmResult kruskalCsrComparatorSort() {
+        return KruskalAlgorithm.findMST(csr, KruskalAlgorithm.Strategy.COMPARATOR_SORT);
+    }
+
+    @Benchmark
+    public AlgorithmResult kruskalCsrRadixSort() {
+        return KruskalAlgorithm.findMST(csr, KruskalAlgorithm.Strategy.RADIX_SORT);
+    }
+
+    @Benchmark
+    public AlgorithmResult kruskalCsrFilter() {
+        return KruskalAlgorithm.findMST(csr, KruskalAlgorithm.Strategy.FILTER);
+    }
+
+    @Benchmark
+    public AlgorithmResult boruvkaCsr() {
+        return BoruvkaAlgorithm.findMST(csr);
+    }
+}
@@ -0,0 +1,75 @@
+package algo_analysis.benchmarks;
+
+import algo_analysis.algorithms.IntUnionFind;
+import algo_analysis.algorithms.UnionFind;
+import algo_analysis.entity.Vertex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Map based UnionFind against the array backed IntUnionFind on the same random union/find sequence
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UnionFindBenchmark {
+
+    @Param({"10000", "1000000"})
+    public int size;
+
+    private int[] first;
+    private int[] second;
+    private Vertex<Integer>[] vertices;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        Random random = new Random(42);
+        first = new int[size];
+        second = new int[size];
+        vertices = (Vertex<Integer>[]) new Vertex[size];
+        for (int i = 0; i < size; i++) {
+            first[i] = random.nextInt(size);
+            second[i] = random.nextInt(size);
+            vertices[i] = new Vertex<>(i);
+        }
+    }
+
+    @Benchmark
+    public int unionFindMap() {
+        UnionFind<Integer> uf = new UnionFind<>();
+        for (Vertex<Integer> vertex : vertices) {
+            uf.makeSet(vertex);
+        }
+        int merged = 0;
+        for (int i = 0; i < size; i++) {
+            if (uf.union(vertices[first[i]], vertices[second[i]])) {
+                merged++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            merged += uf.find(vertices[first[i]]).getData() & 1;
+        }
+        return merged;
+    }
+
+    @Benchmark
+    public int intUnionFind() {
+        IntUnionFind uf = new IntUnionFind(size);
+        int merged = 0;
+        for (int i = 0; i < size; i++) {
+            if (uf.union(first[i], second[i])) {
+                merged++;
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            merged += uf.find(first[i]) & 1;
+        }
+        return merged;
+    }
+}
@@ -1,68 +1,308 @@
 package algo_analysis;
 
 import algo_analysis.algorithms.*;
+import algo_analysis.batch.BatchOptions;
+import algo_analysis.batch.BatchRunner;
+import algo_analysis.batch.TrialRunner;
+import algo_analysis.cache.GraphFingerprint;
+import algo_analysis.cache.ResultCache;
 import algo_analysis.dto.*;
 import algo_analysis.entity.*;
 import algo_analysis.io.JSONHandler;
+import algo_analysis.io.BinaryGraphWriter;
+import algo_analysis.io.GraphSource;
+import algo_analysis.io.JsonResultWriter;
+import algo_analysis.util.MemoryStats;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 
 public class Main {
+    private static final long CALIBRATION_SEED = 42;
 
     public static void main(String[] args) {
+        BatchOptions options;
         try {
-            // input
-            List<GraphData> graphDataList = JSONHandler.readInput("input.json");
-
-            List<GraphResult> results = new ArrayList<>();
-
-            for (GraphData graphData : graphDataList) {
-                System.out.println("-- Graph " + graphData.id + " --");
+            options = BatchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println(BatchOptions.usage());
+            return;
+        }
 
-                Graph<String> graph = JSONHandler.buildGraph(graphData);
+        try {
+            if (options.convertPath != null) {
+                int count = BinaryGraphWriter.convert(options.inputPath, options.convertPath);
+                System.out.println("Converted " + count + " graphs to " + options.convertPath);
+                return;
+            }
 
-                System.out.println("Vertices: " + graph.getVertexCount());
-                System.out.println("Edges: " + graph.getEdgeCount());
-                System.out.println("Connected: " + graph.isConnected());
+            if (options.calibratePath != null) {
+                System.out.println("Calibrating MST engine selector...");
+                MSTCostModel model = MSTCostModel.calibrate(CALIBRATION_SEED);
+                model.save(Paths.get(options.calibratePath));
+                System.out.print(model);
+                System.out.println("Saved cost model to " + options.calibratePath);
+                return;
+            }
 
-                GraphResult result = new GraphResult(
-                        graphData.id,
-                        graph.getVertexCount(),
-                        graph.getEdgeCount()
-                );
+            // graphs built and solved concurrently share the JVM wide GC and heap figures
+            MemoryStats.setJvmWideReadings(options.isSequential());
 
-                // Prim's Algo
-                result.primResult = PrimAlgorithm.findMST(graph);
-                System.out.println("✓ MST Cost: " + result.primResult.totalCost +
-                        " | Operations: " + result.primResult.operationsCount +
-                        " | Time: " + String.format("%.2f", result.primResult.executionTimeMs) + "ms");
+            // engine selector, only used with --auto
+            MSTSelector selector = createSelector(options);
+            // repeated timed runs, only used with --trials
+            TrialRunner trials = options.createTrialRunner();
+            // results of graphs seen before, only used with --cache or --cache-file
+            ResultCache cache = createCache(options);
 
-                // Kruskal's Algo
-                result.kruskalResult = KruskalAlgorithm.findMST(graph);
-                System.out.println("✓ MST Cost: " + result.kruskalResult.totalCost +
-                        " | Operations: " + result.kruskalResult.operationsCount +
-                        " | Time: " + String.format("%.2f", result.kruskalResult.executionTimeMs) + "ms");
+            // only the per graph summary lines are kept, results go to disk as soon as they are ready
+            StringBuilder summary = new StringBuilder();
 
-                results.add(result);
-                System.out.println();
+            // input is streamed graph by graph, graphs are independent so they run concurrently
+            try (GraphSource input = JSONHandler.openInput(options.inputPath);
+                 JsonResultWriter output = JSONHandler.openOutput(options.outputPath);
+                 BatchRunner runner = options.createRunner()) {
+                runner.run(input, data -> processCached(data, options, selector, trials, cache), run -> {
+                    System.out.print(run.log);
+                    appendSummary(summary, run.result);
+                    try {
+                        output.write(run.result);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (cache != null) {
+                    output.setCacheStats(cache.stats());
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
             }
 
-            // output
-            JSONHandler.writeOutput("output.json", results);
+            if (cache != null && options.cacheFile != null) {
+                cache.save(Paths.get(options.cacheFile));
+            }
 
             // summary
             System.out.println("\n== Summary ==");
-            for (GraphResult result : results) {
-                System.out.println("Graph " + result.graphId + ":");
-                System.out.println("  MST Cost: " + result.primResult.totalCost);
-                System.out.println("  Prim Operations: " + result.primResult.operationsCount);
-                System.out.println("  Kruskal Operations: " + result.kruskalResult.operationsCount);
+            System.out.print(summary);
+            if (cache != null) {
+                System.out.println("Cache: " + cache.getHits() + " hits, " + cache.getMisses() + " misses, "
+                        + cache.getEvictions() + " evictions, " + cache.size() + " entries");
             }
 
-        } catch (IOException e) {
+        } catch (IOException | InterruptedException e) {
             System.err.println("Error: " + e.getMessage());
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+
+//    null unless caching is on, a cache file that can't be read only costs a warning
+    private static ResultCache createCache(BatchOptions options) {
+        ResultCache cache = options.createCache();
+        if (cache != null && options.cacheFile != null && Files.exists(Paths.get(options.cacheFile))) {
+            try {
+                cache.load(Paths.get(options.cacheFile));
+            } catch (IOException e) {
+                System.err.println("Warning: ignoring result cache " + options.cacheFile + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+//    null unless --auto, the cost model comes from --cost-model or the defaults, heap Prim uses --heap
+    private static MSTSelector createSelector(BatchOptions options) throws IOException {
+        if (!options.auto) {
+            return null;
+        }
+        if (options.costModelPath == null) {
+            return new MSTSelector(MSTCostModel.defaults(), heapType(options));
+        }
+        return new MSTSelector(MSTCostModel.load(Paths.get(options.costModelPath)), heapType(options));
+    }
+
+    private static IndexPriorityQueue.Type heapType(BatchOptions options) {
+        return options.heapType != null ? options.heapType : IndexPriorityQueue.Type.BINARY;
+    }
+
+//    a graph seen before is answered from the cache without building it, otherwise it is solved and stored
+    private static GraphRun processCached(GraphData graphData, BatchOptions options, MSTSelector selector,
+                                          TrialRunner trials, ResultCache cache) {
+        if (cache == null) {
+            return processGraph(graphData, options, selector, trials);
+        }
+
+        long start = System.nanoTime();
+        String fingerprint = GraphFingerprint.of(graphData);
+        String key = fingerprint + "/" + options.cacheTag(selector != null ? selector.getModel() : null);
+        GraphResult cached = cache.get(key, graphData.id);
+        if (cached != null) {
+            cached.cacheStatus = "hit";
+            double lookupMs = (System.nanoTime() - start) / 1_000_000.0;
+            String log = "-- Graph " + graphData.id + " --\n"
+                    + "Cache hit: " + fingerprint.substring(0, 12) + String.format(" (%.3fms)%n%n", lookupMs);
+            return new GraphRun(cached, log);
+        }
+
+        GraphRun run = processGraph(graphData, options, selector, trials);
+        run.result.cacheStatus = "miss";
+        cache.put(key, run.result);
+        return run;
+    }
+
+//    build one graph and run every algo on it, or only the selected engine when a selector is given,
+//    console lines are buffered so parallel runs don't interleave, with trials every algo is timed repeatedly
+    private static GraphRun processGraph(GraphData graphData, BatchOptions options, MSTSelector selector,
+                                         TrialRunner trials) {
+        StringBuilder log = new StringBuilder();
+        log.append("-- Graph ").append(graphData.id).append(" --\n");
+
+        Graph<String> graph = JSONHandler.buildGraph(graphData);
+
+        log.append("Vertices: ").append(graph.getVertexCount()).append('\n');
+        log.append("Edges: ").append(graph.getEdgeCount()).append('\n');
+        CsrGraph<String> snapshot = CsrGraph.from(graph);
+        ConnectedComponents components = ConnectedComponents.compute(snapshot);
+        log.append("Connected: ").append(components.isConnected()).append('\n');
+        if (!components.isConnected()) {
+            log.append("Components: ").append(components.getCount())
+                    .append(" (largest ").append(components.getLargestSize()).append(")\n");
+        }
+
+        GraphResult result = new GraphResult(
+                graphData.id,
+                graph.getVertexCount(),
+                graph.getEdgeCount()
+        );
+        result.components = components.getCount();
+        result.largestComponent = components.getLargestSize();
+
+        if (selector != null) {
+            // one engine picked from the graph profile
+            MSTSelector.Selection[] selection = new MSTSelector.Selection[1];
+            result.autoResult = measure(trials, () -> {
+                selection[0] = selector.findMST(snapshot);
+                return selection[0].result;
+            });
+            result.autoEngine = selection[0].engine.label();
+            log.append("Auto: ").append(result.autoEngine).append('\n');
+            appendResult(log, result.autoResult);
+        } else {
+            // Prim's Algo, edge scan unless --prim-strategy, eager Prim runs on the --heap type
+            IndexPriorityQueue.Type primHeap = heapType(options);
+            result.primResult = measure(trials, () -> PrimAlgorithm.findMST(graph, options.primStrategy, primHeap));
+            if (options.primStrategy != PrimAlgorithm.Strategy.EDGE_SCAN) {
+                log.append("Prim strategy: ").append(options.primStrategy.label()).append('\n');
+            }
+            appendResult(log, result.primResult);
+
+            // heap Prim on the CSR snapshot, only with --heap
+            if (options.heapType != null) {
+                result.primHeap = options.heapType.label();
+                result.primHeapResult = measure(trials, () -> PrimAlgorithm.findMST(snapshot, options.heapType));
+                log.append("Prim heap: ").append(result.primHeap).append('\n');
+                appendResult(log, result.primHeapResult);
+            }
+
+            // Kruskal's Algo
+            result.kruskalResult = measure(trials, () -> KruskalAlgorithm.findMST(graph));
+            appendResult(log, result.kruskalResult);
+
+            // Boruvka's Algo
+            result.boruvkaResult = measure(trials, () -> BoruvkaAlgorithm.findMST(graph));
+            appendResult(log, result.boruvkaResult);
+        }
+
+        // Prim stops at the first component, the forest covers all of them
+        if (options.forest || !components.isConnected()) {
+            IndexPriorityQueue.Type heapType = heapType(options);
+            ForkJoinPool pool = options.forestParallel ? ForkJoinPool.commonPool() : null;
+            result.forestResult = measure(trials, () -> SpanningForest.findMSF(snapshot, pool, heapType));
+            log.append("Spanning forest (").append(result.forestResult.components.size()).append(" trees):\n");
+            appendResult(log, result.forestResult);
+        }
+
+        log.append('\n');
+        return new GraphRun(result, log.toString());
+    }
+
+    private static AlgorithmResult measure(TrialRunner trials, Supplier<AlgorithmResult> algorithm) {
+        return trials == null ? algorithm.get() : trials.run(algorithm);
+    }
+
+    private static void appendSummary(StringBuilder summary, GraphResult result) {
+        summary.append("Graph ").append(result.graphId).append(":\n");
+        if (result.autoResult != null) {
+            summary.append("  MST Cost: ").append(result.autoResult.totalCost).append('\n');
+            appendSummaryLine(summary, "Auto (" + result.autoEngine + ")", result.autoResult);
+            return;
+        }
+        summary.append("  MST Cost: ").append(result.primResult.totalCost).append('\n');
+        appendSummaryLine(summary, "Prim", result.primResult);
+        if (result.primHeapResult != null) {
+            appendSummaryLine(summary, "Prim (" + result.primHeap + " heap)", result.primHeapResult);
+        }
+        appendSummaryLine(summary, "Kruskal", result.kruskalResult);
+        appendSummaryLine(summary, "Boruvka", result.boruvkaResult);
+    }
+
+//    operations, plus median and p99 time when the algo ran in trials
+    private static void appendSummaryLine(StringBuilder summary, String name, AlgorithmResult result) {
+        summary.append("  ").append(name).append(" Operations: ").append(result.operationsCount);
+        if (result.trialStats != null) {
+            summary.append(String.format(" | Median: %.3fms | p99: %.3fms | %.1f ops/s",
+                    result.trialStats.medianMs, result.trialStats.p99Ms, result.trialStats.opsPerSec));
+        }
+        summary.append('\n');
+    }
+
+    private static void appendResult(StringBuilder log, AlgorithmResult result) {
+        log.append("✓ MST Cost: ").append(result.totalCost)
+                .append(" | Operations: ").append(result.operationsCount)
+                .append(" | Time: ").append(String.format("%.2f", result.executionTimeMs)).append("ms")
+                .append(" | Allocated: ").append(formatBytes(result.allocatedBytes))
+                .append(" | GC: ").append(formatGc(result)).append('\n');
+        if (!result.operationBreakdown.isEmpty()) {
+            log.append("    ").append(result.operationBreakdown).append('\n');
+        }
+        if (result.trialStats != null) {
+            TrialStats stats = result.trialStats;
+            log.append(String.format("    %d trials (%d warm-up): min %.3f | median %.3f | p90 %.3f | p99 %.3f"
+                            + " | mean %.3f ± %.3f ms | %.1f ops/s%n",
+                    stats.trials, stats.warmup, stats.minMs, stats.medianMs, stats.p90Ms, stats.p99Ms,
+                    stats.meanMs, stats.stddevMs, stats.opsPerSec));
+        }
+    }
+
+    private static String formatGc(AlgorithmResult result) {
+        if (result.gcCount < 0 || result.gcTimeMs < 0) {
+            return "n/a";
+        }
+        return result.gcCount + " (" + result.gcTimeMs + "ms)";
+    }
+
+    private static String formatBytes(long bytes) {
+        if (bytes < 0) {
+            return "n/a";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format("%.1f KB", bytes / 1024.0);
+        }
+        return String.format("%.1f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    private static class GraphRun {
+        final GraphResult result;
+        final String log;
+
+        GraphRun(GraphResult result, String log) {
+            this.result = result;
+            this.log = log;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.Graph;
+import algo_analysis.util.MemoryStats;
+import algo_analysis.util.PerformanceMetrics;
+import algo_analysis.util.PerformanceMetrics.Counter;
+import algo_analysis.util.PerformanceMetrics.Phase;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Borůvka's Algorithm for finding MST, parallelised with fork-join
+ * Each round finds the cheapest outgoing edge of every vertex in parallel,
+ * reduces them per component and contracts the components with Union-Find.
+ * Time Complexity: O(E log V) work, at most log V rounds
+ * Reported allocation covers the calling thread only, not the fork-join workers
+ */
+public class BoruvkaAlgorithm {
+    // vertices per fork-join leaf task
+    private static final int SEQUENTIAL_THRESHOLD = 4096;
+
+    /**
+     * Find MST using Borůvka's algo on the common fork-join pool
+     */
+    public static <T> AlgorithmResult findMST(Graph<T> graph) {
+        if (graph == null || graph.getVertexCount() == 0) {
+            return findMST((CsrGraph<T>) null);
+        }
+
+        // the CSR snapshot is part of the measured work
+        long snapshotAllocated = MemoryStats.threadAllocatedBytes();
+        long snapshotStart = System.nanoTime();
+        CsrGraph<T> snapshot = CsrGraph.from(graph);
+        double snapshotMs = (System.nanoTime() - snapshotStart) / 1_000_000.0;
+        long snapshotBytes = MemoryStats.threadAllocatedBytes() - snapshotAllocated;
+
+        AlgorithmResult result = findMST(snapshot);
+        result.executionTimeMs += snapshotMs;
+        if (result.allocatedBytes >= 0 && snapshotAllocated >= 0) {
+            result.allocatedBytes += snapshotBytes;
+        }
+        result.phaseTimesMs.put(Phase.BUILD.name().toLowerCase(), snapshotMs);
+        return result;
+    }
+
+    public static <T> AlgorithmResult findMST(CsrGraph<T> graph) {
+        return findMST(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Find MST using Borůvka's algo with performance tracking on the given pool
+     */
+    public static <T> AlgorithmResult findMST(CsrGraph<T> graph, ForkJoinPool pool) {
+        AlgorithmResult result = new AlgorithmResult();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
+
+        if (graph == null || graph.getVertexCount() == 0) {
+            result.operationsCount = 0;
+            result.executionTimeMs = 0.0;
+            result.totalCost = 0.0;
+            return result;
+        }
+
+        metrics.start();
+
+        int n = graph.getVertexCount();
+        IntUnionFind uf = new IntUnionFind(n);
+        int[] component = new int[n];
+        int[] vertexBest = new int[n];
+        int[] componentBest = new int[n];
+
+        int[] mstEdges = new int[n - 1];
+        int mstSize = 0;
+        double totalCost = 0.0;
+
+        for (int v = 0; v < n; v++) {
+            component[v] = v;
+        }
+
+        metrics.startPhase(Phase.MAIN_LOOP);
+        while (mstSize < n - 1) {
+            // cheapest outgoing edge per vertex, in parallel
+            int examined = pool.invoke(new CheapestEdgeTask<>(graph, component, vertexBest, 0, n));
+            metrics.add(Counter.EDGE_EXAMINATIONS, examined);
+
+            // reduce to cheapest outgoing edge per component
+            Arrays.fill(componentBest, -1);
+            for (int v = 0; v < n; v++) {
+                int edge = vertexBest[v];
+                if (edge != -1 && isLighter(graph, edge, componentBest[component[v]])) {
+                    componentBest[component[v]] = edge;
+                }
+            }
+
+            // contract along the selected edges
+            int added = 0;
+            for (int c = 0; c < n; c++) {
+                int edge = componentBest[c];
+                if (edge != -1 && uf.union(graph.edgeSource(edge), graph.edgeTarget(edge), metrics)) {
+                    mstEdges[mstSize++] = edge;
+                    totalCost += graph.edgeWeight(edge);
+                    added++;
+                }
+            }
+
+            // no component has an outgoing edge left, the graph is disconnected
+            if (added == 0) {
+                break;
+            }
+
+            for (int v = 0; v < n; v++) {
+                component[v] = uf.find(v, metrics);
+            }
+        }
+        metrics.endPhase(Phase.MAIN_LOOP);
+
+        metrics.stop();
+
+        for (int i = 0; i < mstSize; i++) {
+            int edge = mstEdges[i];
+            result.mstEdges.add(new EdgeInfo(
+                    graph.getVertexData(graph.edgeSource(edge)).toString(),
+                    graph.getVertexData(graph.edgeTarget(edge)).toString(),
+                    graph.edgeWeight(edge)
+            ));
+        }
+
+        result.totalCost = totalCost;
+        metrics.record(result);
+
+        return result;
+    }
+
+//    total order on edges (weight, then id) so equal weights can never close a cycle
+    private static <T> boolean isLighter(CsrGraph<T> graph, int edge, int other) {
+        if (other == -1) {
+            return true;
+        }
+        double weight = graph.edgeWeight(edge);
+        double otherWeight = graph.edgeWeight(other);
+        return weight < otherWeight || (weight == otherWeight && edge < other);
+    }
+
+    /**
+     * Fills best[v] with the cheapest edge leaving v's component, -1 if none,
+     * and returns the number of arcs examined
+     */
+    private static final class CheapestEdgeTask<T> extends RecursiveTask<Integer> {
+        private final CsrGraph<T> graph;
+        private final int[] component;
+        private final int[] best;
+        private final int from;
+        private final int to;
+
+        CheapestEdgeTask(CsrGraph<T> graph, int[] component, int[] best, int from, int to) {
+            this.graph = graph;
+            this.component = component;
+            this.best = best;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return computeSequentially();
+            }
+
+            int mid = (from + to) >>> 1;
+            CheapestEdgeTask<T> left = new CheapestEdgeTask<>(graph, component, best, from, mid);
+            left.fork();
+            int right = new CheapestEdgeTask<>(graph, component, best, mid, to).compute();
+            return left.join() + right;
+        }
+
+        private int computeSequentially() {
+            int examined = 0;
+            for (int v = from; v < to; v++) {
+                int own = component[v];
+                int cheapest = -1;
+                for (int arc = graph.arcStart(v); arc < graph.arcEnd(v); arc++) {
+                    examined++;
+                    if (component[graph.arcTarget(arc)] != own) {
+                        int edge = graph.arcEdge(arc);
+                        if (isLighter(graph, edge, cheapest)) {
+                            cheapest = edge;
+                        }
+                    }
+                }
+                best[v] = cheapest;
+            }
+            return examined;
+        }
+    }
+}
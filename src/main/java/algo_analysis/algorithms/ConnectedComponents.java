@@ -0,0 +1,193 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.entity.CsrGraph;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Connected components of a CSR graph, no recursion so path-like graphs of any length are safe
+ * The sequential path is a BFS with a BitSet of visited vertices. The parallel path unions
+ * edge ranges with fork-join tasks into a lock-free union-find that always links the larger
+ * root under the smaller one. Both number components by their smallest vertex id, so they
+ * give identical results.
+ */
+public final class ConnectedComponents {
+    // edges per fork-join leaf task
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+    // below this many edges compute() stays sequential
+    private static final int PARALLEL_EDGE_THRESHOLD = 1 << 20;
+
+    private final int[] componentOf;
+    private final int[] sizes;
+
+    private ConnectedComponents(int[] componentOf, int[] sizes) {
+        this.componentOf = componentOf;
+        this.sizes = sizes;
+    }
+
+//    sequential for small graphs, parallel on the common pool for large ones
+    public static <T> ConnectedComponents compute(CsrGraph<T> graph) {
+        if (graph.getEdgeCount() >= PARALLEL_EDGE_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return parallel(graph, ForkJoinPool.commonPool());
+        }
+        return sequential(graph);
+    }
+
+//    breadth first search from every unvisited vertex in id order
+    public static <T> ConnectedComponents sequential(CsrGraph<T> graph) {
+        int n = graph.getVertexCount();
+        int[] componentOf = new int[n];
+        int[] sizes = new int[n];
+        int count = 0;
+
+        BitSet visited = new BitSet(n);
+        int[] queue = new int[n];
+
+        for (int start = visited.nextClearBit(0); start < n; start = visited.nextClearBit(start + 1)) {
+            int head = 0;
+            int tail = 0;
+            queue[tail++] = start;
+            visited.set(start);
+
+            while (head < tail) {
+                int v = queue[head++];
+                componentOf[v] = count;
+                for (int arc = graph.arcStart(v); arc < graph.arcEnd(v); arc++) {
+                    int w = graph.arcTarget(arc);
+                    if (!visited.get(w)) {
+                        visited.set(w);
+                        queue[tail++] = w;
+                    }
+                }
+            }
+            sizes[count++] = tail;
+        }
+
+        return new ConnectedComponents(componentOf, Arrays.copyOf(sizes, count));
+    }
+
+    public static <T> ConnectedComponents parallel(CsrGraph<T> graph, ForkJoinPool pool) {
+        int n = graph.getVertexCount();
+        AtomicIntegerArray parent = new AtomicIntegerArray(n);
+        for (int v = 0; v < n; v++) {
+            parent.set(v, v);
+        }
+
+        pool.invoke(new UnionTask<>(graph, parent, 0, graph.getEdgeCount()));
+
+        // roots are the smallest vertex of their component, so numbering in id order
+        // matches the order the sequential search discovers components in
+        int[] componentOf = new int[n];
+        int[] sizes = new int[n];
+        int count = 0;
+        for (int v = 0; v < n; v++) {
+            int root = find(parent, v);
+            int component = root == v ? count++ : componentOf[root];
+            componentOf[v] = component;
+            sizes[component]++;
+        }
+
+        return new ConnectedComponents(componentOf, Arrays.copyOf(sizes, count));
+    }
+
+    public int getCount() {
+        return sizes.length;
+    }
+
+    public boolean isConnected() {
+        return sizes.length <= 1;
+    }
+
+//    component id of a vertex, components are numbered 0..count-1
+    public int componentOf(int vertex) {
+        return componentOf[vertex];
+    }
+
+    public int size(int component) {
+        return sizes[component];
+    }
+
+    public int getLargestSize() {
+        int largest = 0;
+        for (int size : sizes) {
+            largest = Math.max(largest, size);
+        }
+        return largest;
+    }
+
+    public int[] getSizes() {
+        return sizes.clone();
+    }
+
+//    vertex ids of one component in increasing order
+    public int[] vertices(int component) {
+        int[] members = new int[sizes[component]];
+        int k = 0;
+        for (int v = 0; v < componentOf.length && k < members.length; v++) {
+            if (componentOf[v] == component) {
+                members[k++] = v;
+            }
+        }
+        return members;
+    }
+
+//    path halving with CAS, a failed CAS only means another thread already shortened the path
+    private static int find(AtomicIntegerArray parent, int v) {
+        int p;
+        while ((p = parent.get(v)) != v) {
+            int grandparent = parent.get(p);
+            if (grandparent != p) {
+                parent.compareAndSet(v, p, grandparent);
+            }
+            v = grandparent;
+        }
+        return v;
+    }
+
+    private static void union(AtomicIntegerArray parent, int a, int b) {
+        while (true) {
+            int rootA = find(parent, a);
+            int rootB = find(parent, b);
+            if (rootA == rootB) {
+                return;
+            }
+            // larger root goes under the smaller one, links only point down so no cycles
+            int high = Math.max(rootA, rootB);
+            int low = Math.min(rootA, rootB);
+            if (parent.compareAndSet(high, high, low)) {
+                return;
+            }
+        }
+    }
+
+    private static final class UnionTask<T> extends RecursiveAction {
+        private final CsrGraph<T> graph;
+        private final AtomicIntegerArray parent;
+        private final int from;
+        private final int to;
+
+        UnionTask(CsrGraph<T> graph, AtomicIntegerArray parent, int from, int to) {
+            this.graph = graph;
+            this.parent = parent;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                for (int e = from; e < to; e++) {
+                    union(parent, graph.edgeSource(e), graph.edgeTarget(e));
+                }
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new UnionTask<>(graph, parent, from, mid), new UnionTask<>(graph, parent, mid, to));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package algo_analysis.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary min-heap on int and double arrays
+ * With d = 4 the tree is half as deep as a binary heap, so insert and decrease-key touch
+ * fewer levels, while the d children compared in deleteMin sit next to each other.
+ * Steps are key comparisons made while sifting
+ */
+public class DaryHeap implements IndexPriorityQueue {
+    private final int arity;
+    private final int[] heap;      // heap position -> index
+    private final int[] position;  // index -> heap position, -1 if absent
+    private final double[] keys;
+    private int size;
+    private long steps;
+
+    public DaryHeap(int arity, int capacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2.");
+        }
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        this.size = 0;
+        Arrays.fill(position, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return position[index] != -1;
+    }
+
+    @Override
+    public double keyOf(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        return keys[index];
+    }
+
+    @Override
+    public void insert(int index, double key) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the queue.");
+        }
+        keys[index] = key;
+        siftUp(size++, index);
+    }
+
+    @Override
+    public void decreaseKey(int index, double key) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        if (key > keys[index]) {
+            throw new IllegalArgumentException("New key is greater than the current key.");
+        }
+        keys[index] = key;
+        siftUp(position[index], index);
+    }
+
+    @Override
+    public int deleteMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        int min = heap[0];
+        position[min] = -1;
+        int last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return min;
+    }
+
+    @Override
+    public long getSteps() {
+        return steps;
+    }
+
+//    moves index up from pos, parents shift down into the hole instead of swapping
+    private void siftUp(int pos, int index) {
+        double key = keys[index];
+        while (pos > 0) {
+            int parent = (pos - 1) / arity;
+            steps++;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            heap[pos] = heap[parent];
+            position[heap[pos]] = pos;
+            pos = parent;
+        }
+        heap[pos] = index;
+        position[index] = pos;
+    }
+
+    private void siftDown(int pos, int index) {
+        double key = keys[index];
+        while (true) {
+            int first = arity * pos + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int child = first;
+            for (int c = first + 1; c < last; c++) {
+                if (keys[heap[c]] < keys[heap[child]]) {
+                    child = c;
+                }
+            }
+            steps += last - first;
+            if (key <= keys[heap[child]]) {
+                break;
+            }
+            heap[pos] = heap[child];
+            position[heap[pos]] = pos;
+            pos = child;
+        }
+        heap[pos] = index;
+        position[index] = pos;
+    }
+}
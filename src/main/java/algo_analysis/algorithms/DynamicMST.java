@@ -0,0 +1,167 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.entity.Edge;
+import algo_analysis.entity.Graph;
+import algo_analysis.entity.Vertex;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimum spanning forest of a Graph kept up to date while edges are inserted
+ * The forest lives in a link-cut tree where every tree edge is a node of its own carrying
+ * the edge weight. A new edge between two trees is linked directly. A new edge inside a tree
+ * closes a cycle, the heaviest edge on the tree path between its endpoints is found with a
+ * path-maximum query and swapped out if it is heavier than the new edge.
+ * Time Complexity: O(E log E) for the initial Kruskal, O(log V) amortized per insertion
+ *
+ * Vertices and edges must be added through this class, changes made to the graph directly
+ * are not seen. Edge removal is not supported.
+ */
+public class DynamicMST<T> {
+    private final Graph<T> graph;
+    private final LinkCutTree tree;
+    private final Map<Vertex<T>, Integer> vertexNode;
+    private final Map<Edge<T>, Integer> treeEdges;
+    private final List<Edge<T>> edgeOfNode;
+    private final List<Integer> freeNodes;
+    private double totalCost;
+
+    public DynamicMST() {
+        this(new Graph<>());
+    }
+
+//    starts from the minimum spanning forest of the graph as it is now
+    public DynamicMST(Graph<T> graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph doesn't exist.");
+        }
+
+        this.graph = graph;
+        this.tree = new LinkCutTree(2 * graph.getVertexCount());
+        this.vertexNode = new HashMap<>();
+        this.treeEdges = new LinkedHashMap<>();
+        this.edgeOfNode = new ArrayList<>();
+        this.freeNodes = new ArrayList<>();
+        this.edgeOfNode.add(null); // node 0 is the sentinel
+
+        for (Vertex<T> vertex : graph.getVerticesView()) {
+            addNode(vertex);
+        }
+        for (Edge<T> edge : KruskalAlgorithm.findMSTEdges(graph)) {
+            attach(edge);
+        }
+    }
+
+    public void addVertex(Vertex<T> vertex) {
+        graph.addVertex(vertex);
+        addNode(vertex);
+    }
+
+    /**
+     * Adds the edge to the graph and repairs the forest
+     * Returns true if the new edge became a tree edge
+     */
+    public boolean addEdge(Vertex<T> source, Vertex<T> target, double weight) {
+        graph.addEdge(source, target, weight);
+        Edge<T> edge = graph.getEdge(source, target).orElseThrow(IllegalStateException::new);
+
+        int u = vertexNode.get(source);
+        int v = vertexNode.get(target);
+        if (u == v) {
+            return false;
+        }
+
+        if (!tree.connected(u, v)) {
+            attach(edge);
+            return true;
+        }
+
+        // the new edge closes a cycle, keep it only if it beats the heaviest edge on the path
+        int heaviest = tree.pathMax(u, v);
+        if (tree.weightOf(heaviest) <= weight) {
+            return false;
+        }
+
+        detach(heaviest);
+        attach(edge);
+        return true;
+    }
+
+    public Graph<T> getGraph() {
+        return graph;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public int getTreeEdgeCount() {
+        return treeEdges.size();
+    }
+
+    public boolean isTreeEdge(Edge<T> edge) {
+        return treeEdges.containsKey(edge);
+    }
+
+//    read-only view of the current tree edges
+    public Collection<Edge<T>> getTreeEdges() {
+        return Collections.unmodifiableSet(treeEdges.keySet());
+    }
+
+//    snapshot of the current forest, no metrics are recorded
+    public AlgorithmResult toResult() {
+        AlgorithmResult result = new AlgorithmResult();
+        double cost = 0.0;
+        for (Edge<T> edge : treeEdges.keySet()) {
+            result.mstEdges.add(new EdgeInfo(
+                    edge.getSource().getData().toString(),
+                    edge.getTarget().getData().toString(),
+                    edge.getWeight()
+            ));
+            cost += edge.getWeight();
+        }
+        result.totalCost = cost;
+        return result;
+    }
+
+    private void addNode(Vertex<T> vertex) {
+        // vertices never win a path-maximum query
+        vertexNode.put(vertex, tree.addNode(Double.NEGATIVE_INFINITY));
+        edgeOfNode.add(null);
+    }
+
+    private void attach(Edge<T> edge) {
+        int node;
+        if (freeNodes.isEmpty()) {
+            node = tree.addNode(edge.getWeight());
+            edgeOfNode.add(edge);
+        } else {
+            node = freeNodes.remove(freeNodes.size() - 1);
+            tree.resetNode(node, edge.getWeight());
+            edgeOfNode.set(node, edge);
+        }
+
+        tree.link(node, vertexNode.get(edge.getSource()));
+        tree.link(node, vertexNode.get(edge.getTarget()));
+        treeEdges.put(edge, node);
+        totalCost += edge.getWeight();
+    }
+
+    private void detach(int node) {
+        Edge<T> edge = edgeOfNode.get(node);
+        tree.cut(node, vertexNode.get(edge.getSource()));
+        tree.cut(node, vertexNode.get(edge.getTarget()));
+        treeEdges.remove(edge);
+        edgeOfNode.set(node, null);
+        freeNodes.add(node);
+        totalCost -= edge.getWeight();
+    }
+}
@@ -0,0 +1,121 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.entity.CsrGraph;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Sorts CSR edge ids by weight without creating Edge objects
+ * The radix path maps each IEEE-754 weight to an unsigned-comparable long key
+ * and runs a stable LSD radix sort, skipping byte passes where all keys agree
+ */
+public final class EdgeSorter {
+    private static final int RADIX_BITS = 8;
+    private static final int BUCKETS = 1 << RADIX_BITS;
+    private static final int PASSES = Long.SIZE / RADIX_BITS;
+
+    private EdgeSorter() {}
+
+//    edge ids ordered by weight using a comparator over boxed ids
+    public static <T> int[] comparatorSort(CsrGraph<T> graph) {
+        Integer[] boxed = new Integer[graph.getEdgeCount()];
+        for (int e = 0; e < boxed.length; e++) {
+            boxed[e] = e;
+        }
+        Arrays.sort(boxed, Comparator.comparingDouble(graph::edgeWeight));
+
+        int[] order = new int[boxed.length];
+        for (int i = 0; i < boxed.length; i++) {
+            order[i] = boxed[i];
+        }
+        return order;
+    }
+
+//    edge ids ordered by weight using radix sort on the weight bits, stable for equal weights
+    public static <T> int[] radixSort(CsrGraph<T> graph) {
+        int m = graph.getEdgeCount();
+        long[] keys = new long[m];
+        int[] order = new int[m];
+        for (int e = 0; e < m; e++) {
+            keys[e] = sortableBits(graph.edgeWeight(e));
+            order[e] = e;
+        }
+        radixSort(keys, order);
+        return order;
+    }
+
+//    sorts edges[from..to) by weight in place, used for partial sorts of an edge id array
+    public static <T> void radixSort(CsrGraph<T> graph, int[] edges, int from, int to) {
+        int n = to - from;
+        long[] keys = new long[n];
+        int[] values = Arrays.copyOfRange(edges, from, to);
+        for (int i = 0; i < n; i++) {
+            keys[i] = sortableBits(graph.edgeWeight(values[i]));
+        }
+        radixSort(keys, values);
+        System.arraycopy(values, 0, edges, from, n);
+    }
+
+//    sorts keys as unsigned longs and applies the same permutation to values
+    public static void radixSort(long[] keys, int[] values) {
+        int n = keys.length;
+        if (values.length != n) {
+            throw new IllegalArgumentException("Keys and values must have the same length.");
+        }
+        if (n < 2) {
+            return;
+        }
+
+        // histograms for every byte in a single pass over the keys
+        int[][] counts = new int[PASSES][BUCKETS];
+        for (long key : keys) {
+            for (int pass = 0; pass < PASSES; pass++) {
+                counts[pass][(int) (key >>> (pass * RADIX_BITS)) & (BUCKETS - 1)]++;
+            }
+        }
+
+        long[] keyBuffer = new long[n];
+        int[] valueBuffer = new int[n];
+        long[] srcKeys = keys;
+        int[] srcValues = values;
+
+        for (int pass = 0; pass < PASSES; pass++) {
+            int[] count = counts[pass];
+            int shift = pass * RADIX_BITS;
+
+            // every key has the same byte here, nothing to reorder
+            if (count[(int) (srcKeys[0] >>> shift) & (BUCKETS - 1)] == n) {
+                continue;
+            }
+
+            int sum = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                int c = count[b];
+                count[b] = sum;
+                sum += c;
+            }
+
+            long[] dstKeys = srcKeys == keys ? keyBuffer : keys;
+            int[] dstValues = srcValues == values ? valueBuffer : values;
+            for (int i = 0; i < n; i++) {
+                int pos = count[(int) (srcKeys[i] >>> shift) & (BUCKETS - 1)]++;
+                dstKeys[pos] = srcKeys[i];
+                dstValues[pos] = srcValues[i];
+            }
+            srcKeys = dstKeys;
+            srcValues = dstValues;
+        }
+
+        if (srcKeys != keys) {
+            System.arraycopy(srcKeys, 0, keys, 0, n);
+            System.arraycopy(srcValues, 0, values, 0, n);
+        }
+    }
+
+//    maps a double to a long whose unsigned order matches the numeric order of the doubles
+    public static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits < 0 ? ~bits : bits ^ Long.MIN_VALUE;
+    }
+}
@@ -0,0 +1,137 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.util.PerformanceMetrics;
+import algo_analysis.util.PerformanceMetrics.Counter;
+import algo_analysis.util.PerformanceMetrics.Phase;
+
+import java.util.Random;
+
+/**
+ * Filter-Kruskal over a CSR snapshot
+ * Edges are partitioned around a random pivot weight quickselect style, the light part is
+ * solved first and heavy edges whose endpoints are already connected are filtered out
+ * before they are ever sorted. Stops as soon as V-1 tree edges are found.
+ */
+final class FilterKruskal<T> {
+    private static final int BASE_CASE_SIZE = 1024;
+
+    private final CsrGraph<T> graph;
+    private final PerformanceMetrics metrics;
+    private final IntUnionFind uf;
+    private final Random random;
+
+    private final int[] mstEdges;
+    private int mstSize;
+    private double totalCost;
+
+    FilterKruskal(CsrGraph<T> graph, PerformanceMetrics metrics) {
+        this.graph = graph;
+        this.metrics = metrics;
+        this.uf = new IntUnionFind(graph.getVertexCount());
+        this.random = new Random(graph.getEdgeCount());
+        this.mstEdges = new int[Math.max(0, graph.getVertexCount() - 1)];
+        this.mstSize = 0;
+        this.totalCost = 0.0;
+    }
+
+    void run() {
+        int[] edges = new int[graph.getEdgeCount()];
+        for (int e = 0; e < edges.length; e++) {
+            edges[e] = e;
+        }
+        filterKruskal(edges, 0, edges.length);
+    }
+
+    int[] getMstEdges() {
+        return mstEdges;
+    }
+
+    int getMstSize() {
+        return mstSize;
+    }
+
+    double getTotalCost() {
+        return totalCost;
+    }
+
+    private void filterKruskal(int[] edges, int from, int to) {
+        if (from >= to || isComplete()) {
+            return;
+        }
+
+        if (to - from <= BASE_CASE_SIZE) {
+            metrics.startPhase(Phase.SORT);
+            EdgeSorter.radixSort(graph, edges, from, to);
+            metrics.add(Counter.SORTED_EDGES, to - from);
+            metrics.endPhase(Phase.SORT);
+            for (int i = from; i < to && !isComplete(); i++) {
+                tryAdd(edges[i]);
+            }
+            return;
+        }
+
+        // three way partition: [from, lt) lighter, [lt, gt) equal, [gt, to) heavier than pivot
+        double pivot = graph.edgeWeight(edges[from + random.nextInt(to - from)]);
+        int lt = from;
+        int gt = to;
+        int i = from;
+        // every element is compared against the pivot exactly once
+        metrics.add(Counter.COMPARISONS, to - from);
+        while (i < gt) {
+            double weight = graph.edgeWeight(edges[i]);
+            if (weight < pivot) {
+                swap(edges, lt++, i++);
+            } else if (weight > pivot) {
+                swap(edges, i, --gt);
+            } else {
+                i++;
+            }
+        }
+
+        filterKruskal(edges, from, lt);
+
+        // equal weights need no ordering among themselves
+        for (int j = lt; j < gt && !isComplete(); j++) {
+            tryAdd(edges[j]);
+        }
+
+        int end = filter(edges, gt, to);
+        filterKruskal(edges, gt, end);
+    }
+
+//    compact edges[from..to) keeping only edges that still join two components
+    private int filter(int[] edges, int from, int to) {
+        if (isComplete()) {
+            return from;
+        }
+
+        metrics.add(Counter.EDGE_EXAMINATIONS, to - from);
+        int kept = from;
+        for (int i = from; i < to; i++) {
+            int edge = edges[i];
+            if (uf.find(graph.edgeSource(edge), metrics) != uf.find(graph.edgeTarget(edge), metrics)) {
+                edges[kept++] = edge;
+            }
+        }
+        return kept;
+    }
+
+    private void tryAdd(int edge) {
+        metrics.increment(Counter.EDGE_EXAMINATIONS);
+        if (uf.union(graph.edgeSource(edge), graph.edgeTarget(edge), metrics)) {
+            mstEdges[mstSize++] = edge;
+            totalCost += graph.edgeWeight(edge);
+        }
+    }
+
+    private boolean isComplete() {
+        return mstSize == mstEdges.length;
+    }
+
+    private static void swap(int[] edges, int a, int b) {
+        int tmp = edges[a];
+        edges[a] = edges[b];
+        edges[b] = tmp;
+    }
+}
@@ -0,0 +1,130 @@
+package algo_analysis.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed binary min-heap over int keys 0..capacity-1 with double priorities
+ * Supports decrease-key in O(log n), used by eager Prim's Algo
+ * Steps are key comparisons made while sifting
+ */
+public class IndexMinPQ implements IndexPriorityQueue {
+    private final int[] heap;      // heap position -> index
+    private final int[] position;  // index -> heap position, -1 if absent
+    private final double[] keys;
+    private int size;
+    private long steps;
+
+    public IndexMinPQ(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        this.size = 0;
+        Arrays.fill(position, -1);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return position[index] != -1;
+    }
+
+    @Override
+    public double keyOf(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        return keys[index];
+    }
+
+    @Override
+    public void insert(int index, double key) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the queue.");
+        }
+        keys[index] = key;
+        heap[size] = index;
+        position[index] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public void decreaseKey(int index, double key) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        if (key > keys[index]) {
+            throw new IllegalArgumentException("New key is greater than the current key.");
+        }
+        keys[index] = key;
+        siftUp(position[index]);
+    }
+
+    @Override
+    public int deleteMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        int min = heap[0];
+        swap(0, --size);
+        position[min] = -1;
+        siftDown(0);
+        return min;
+    }
+
+    @Override
+    public long getSteps() {
+        return steps;
+    }
+
+    private void siftUp(int pos) {
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            steps++;
+            if (keys[heap[parent]] <= keys[heap[pos]]) {
+                break;
+            }
+            swap(pos, parent);
+            pos = parent;
+        }
+    }
+
+    private void siftDown(int pos) {
+        while (true) {
+            int left = 2 * pos + 1;
+            if (left >= size) {
+                break;
+            }
+            int child = left;
+            if (left + 1 < size && keys[heap[left + 1]] < keys[heap[left]]) {
+                child = left + 1;
+            }
+            steps += 2;
+            if (keys[heap[pos]] <= keys[heap[child]]) {
+                break;
+            }
+            swap(pos, child);
+            pos = child;
+        }
+    }
+
+    private void swap(int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+        position[heap[a]] = a;
+        position[heap[b]] = b;
+    }
+}
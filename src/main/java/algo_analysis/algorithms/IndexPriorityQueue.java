@@ -0,0 +1,70 @@
+package algo_analysis.algorithms;
+
+/**
+ * Indexed min priority queue over int indices 0..capacity-1 with double keys
+ * No boxing, decrease-key in place and O(1) contains. Every implementation counts its
+ * internal steps (key comparisons, links or bucket moves) so callers can add them to
+ * PerformanceMetrics as HEAP_STEPS. Implementations are not thread safe.
+ */
+public interface IndexPriorityQueue {
+
+    /**
+     * BINARY binary heap (IndexMinPQ)
+     * FOUR_ARY 4-ary heap, shallower than binary so fewer cache misses on decrease-key
+     * PAIRING pairing heap, O(1) insert and amortized o(log n) decrease-key
+     * RADIX radix heap on the key bits, cheapest when extracted keys are monotone
+     */
+    enum Type {
+        BINARY,
+        FOUR_ARY,
+        PAIRING,
+        RADIX;
+
+        public String label() {
+            return name().toLowerCase();
+        }
+
+//        accepts the label or the constant name, "four_ary" and "FOUR-ARY" both work
+        public static Type parse(String raw) {
+            for (Type type : values()) {
+                if (type.name().equalsIgnoreCase(raw.replace('-', '_'))) {
+                    return type;
+                }
+            }
+            throw new IllegalArgumentException("Unknown heap type: " + raw);
+        }
+    }
+
+    static IndexPriorityQueue create(Type type, int capacity) {
+        switch (type) {
+            case BINARY:
+                return new IndexMinPQ(capacity);
+            case FOUR_ARY:
+                return new DaryHeap(4, capacity);
+            case PAIRING:
+                return new PairingHeap(capacity);
+            case RADIX:
+                return new RadixHeap(capacity);
+            default:
+                throw new IllegalArgumentException("Unknown heap type: " + type);
+        }
+    }
+
+    boolean isEmpty();
+
+    int size();
+
+    boolean contains(int index);
+
+    double keyOf(int index);
+
+    void insert(int index, double key);
+
+    void decreaseKey(int index, double key);
+
+//    remove the index with smallest key and return it
+    int deleteMin();
+
+//    internal steps since construction
+    long getSteps();
+}
@@ -2,10 +2,13 @@ package algo_analysis.algorithms;
 
 import algo_analysis.dto.AlgorithmResult;
 import algo_analysis.dto.EdgeInfo;
+import algo_analysis.entity.CsrGraph;
 import algo_analysis.entity.Edge;
 import algo_analysis.entity.Graph;
 import algo_analysis.entity.Vertex;
 import algo_analysis.util.PerformanceMetrics;
+import algo_analysis.util.PerformanceMetrics.Counter;
+import algo_analysis.util.PerformanceMetrics.Phase;
 
 import java.util.*;
 
@@ -16,12 +19,24 @@ import java.util.*;
  */
 public class KruskalAlgorithm {
 
+    /**
+     * Edge ordering used by the CSR implementation
+     * COMPARATOR_SORT sorts boxed edge ids with a weight comparator
+     * RADIX_SORT radix sorts the IEEE-754 weight bits in primitive arrays
+     * FILTER partitions lazily (Filter-Kruskal) and only sorts edges it still needs
+     */
+    public enum Strategy {
+        COMPARATOR_SORT,
+        RADIX_SORT,
+        FILTER
+    }
+
     /**
      * Find MST using Kruskal's Algo with performance tracking
      */
     public static <T> AlgorithmResult findMST(Graph<T> graph) {
         AlgorithmResult result = new AlgorithmResult();
-        PerformanceMetrics metrics = new PerformanceMetrics();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
 
         if (graph == null || graph.getVertexCount() == 0) {
             result.operationsCount = 0;
@@ -33,23 +48,28 @@ public class KruskalAlgorithm {
         metrics.start();
 
         // sort all edges by weight
-        List<Edge<T>> sortedEdges = new ArrayList<>(graph.getAllEdges());
+        metrics.startPhase(Phase.SORT);
+        List<Edge<T>> sortedEdges = new ArrayList<>(graph.getEdgesView());
         sortedEdges.sort(Comparator.comparingDouble(Edge::getWeight));
-        metrics.incrementOperations(sortedEdges.size());
+        // edges that went through the sort, the comparisons themselves are not counted
+        metrics.add(Counter.SORTED_EDGES, sortedEdges.size());
+        metrics.endPhase(Phase.SORT);
 
         // unionfind for all vertices
+        metrics.startPhase(Phase.BUILD);
         UnionFind<T> uf = new UnionFind<>();
-        for (Vertex<T> vertex : graph.getAllVertices()) {
+        for (Vertex<T> vertex : graph.getVerticesView()) {
             uf.makeSet(vertex);
-            metrics.incrementOperations();
         }
+        metrics.endPhase(Phase.BUILD);
 
         // process edged sorted
         List<Edge<T>> mstEdges = new ArrayList<>();
         double totalCost = 0.0;
 
+        metrics.startPhase(Phase.MAIN_LOOP);
         for (Edge<T> edge : sortedEdges) {
-            metrics.incrementOperations();
+            metrics.increment(Counter.EDGE_EXAMINATIONS);
 
             Vertex<T> source = edge.getSource();
             Vertex<T> target = edge.getTarget();
@@ -70,6 +90,7 @@ public class KruskalAlgorithm {
                 }
             }
         }
+        metrics.endPhase(Phase.MAIN_LOOP);
 
         metrics.stop();
 
@@ -82,8 +103,93 @@ public class KruskalAlgorithm {
         }
 
         result.totalCost = totalCost;
-        result.operationsCount = metrics.getOperationsCount();
-        result.executionTimeMs = metrics.getExecutionTimeMs();
+        metrics.record(result);
+
+        return result;
+    }
+
+    /**
+     * Find MST on a CSR snapshot using the radix sort path
+     */
+    public static <T> AlgorithmResult findMST(CsrGraph<T> graph) {
+        return findMST(graph, Strategy.RADIX_SORT);
+    }
+
+    /**
+     * Find MST on a CSR snapshot, edges are sorted by index so no Edge objects are created
+     * and the array backed IntUnionFind works directly on the dense vertex ids
+     */
+    public static <T> AlgorithmResult findMST(CsrGraph<T> graph, Strategy strategy) {
+        AlgorithmResult result = new AlgorithmResult();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
+
+        if (graph == null || graph.getVertexCount() == 0) {
+            result.operationsCount = 0;
+            result.executionTimeMs = 0.0;
+            result.totalCost = 0.0;
+            return result;
+        }
+
+        metrics.start();
+
+        int n = graph.getVertexCount();
+        int[] mstEdges;
+        int mstSize;
+        double totalCost;
+
+        if (strategy == Strategy.FILTER) {
+            FilterKruskal<T> filterKruskal = new FilterKruskal<>(graph, metrics);
+            filterKruskal.run();
+            mstEdges = filterKruskal.getMstEdges();
+            mstSize = filterKruskal.getMstSize();
+            totalCost = filterKruskal.getTotalCost();
+        } else {
+            // sort edge ids by weight
+            metrics.startPhase(Phase.SORT);
+            int[] sortedEdges = strategy == Strategy.COMPARATOR_SORT
+                    ? EdgeSorter.comparatorSort(graph)
+                    : EdgeSorter.radixSort(graph);
+            metrics.add(Counter.SORTED_EDGES, sortedEdges.length);
+            metrics.endPhase(Phase.SORT);
+
+            // unionfind over dense vertex ids
+            metrics.startPhase(Phase.BUILD);
+            IntUnionFind uf = new IntUnionFind(n);
+            metrics.endPhase(Phase.BUILD);
+
+            // process edges sorted
+            mstEdges = new int[n - 1];
+            mstSize = 0;
+            totalCost = 0.0;
+
+            metrics.startPhase(Phase.MAIN_LOOP);
+            for (int edge : sortedEdges) {
+                if (mstSize == n - 1) {
+                    break;
+                }
+                metrics.increment(Counter.EDGE_EXAMINATIONS);
+
+                if (uf.union(graph.edgeSource(edge), graph.edgeTarget(edge), metrics)) {
+                    mstEdges[mstSize++] = edge;
+                    totalCost += graph.edgeWeight(edge);
+                }
+            }
+            metrics.endPhase(Phase.MAIN_LOOP);
+        }
+
+        metrics.stop();
+
+        for (int i = 0; i < mstSize; i++) {
+            int edge = mstEdges[i];
+            result.mstEdges.add(new EdgeInfo(
+                    graph.getVertexData(graph.edgeSource(edge)).toString(),
+                    graph.getVertexData(graph.edgeTarget(edge)).toString(),
+                    graph.edgeWeight(edge)
+            ));
+        }
+
+        result.totalCost = totalCost;
+        metrics.record(result);
 
         return result;
     }
@@ -97,12 +203,12 @@ public class KruskalAlgorithm {
         }
 
         // sort
-        List<Edge<T>> sortedEdges = new ArrayList<>(graph.getAllEdges());
+        List<Edge<T>> sortedEdges = new ArrayList<>(graph.getEdgesView());
         sortedEdges.sort(Comparator.comparingDouble(Edge::getWeight));
 
         // union find
         UnionFind<T> uf = new UnionFind<>();
-        for (Vertex<T> vertex : graph.getAllVertices()) {
+        for (Vertex<T> vertex : graph.getVerticesView()) {
             uf.makeSet(vertex);
         }
 
@@ -0,0 +1,202 @@
+package algo_analysis.algorithms;
+
+import java.util.Arrays;
+
+/**
+ * Link-cut tree over int nodes 1..size with a weight per node and path-maximum queries
+ * Splay trees of preferred paths stored in flat arrays, node 0 is the empty sentinel.
+ * link, cut, connected and pathMax run in O(log n) amortized time.
+ * Edge weights are modelled by giving each tree edge its own node between its endpoints.
+ */
+class LinkCutTree {
+    private static final int NIL = 0;
+
+    private int[] left;
+    private int[] right;
+    private int[] parent;
+    private boolean[] reversed;
+    private double[] weight;
+    private int[] best; // node with the largest weight in the splay subtree
+    private int[] stack; // scratch for pushDownFromRoot, grows with the deepest splay path seen
+    private int size;
+
+    LinkCutTree(int capacity) {
+        int length = Math.max(2, capacity + 1);
+        this.left = new int[length];
+        this.right = new int[length];
+        this.parent = new int[length];
+        this.reversed = new boolean[length];
+        this.weight = new double[length];
+        this.best = new int[length];
+        this.stack = new int[16];
+        this.weight[NIL] = Double.NEGATIVE_INFINITY;
+        this.size = 0;
+    }
+
+//    new isolated node, returns its id
+    int addNode(double nodeWeight) {
+        int node = ++size;
+        if (node == left.length) {
+            int length = left.length * 2;
+            left = Arrays.copyOf(left, length);
+            right = Arrays.copyOf(right, length);
+            parent = Arrays.copyOf(parent, length);
+            reversed = Arrays.copyOf(reversed, length);
+            weight = Arrays.copyOf(weight, length);
+            best = Arrays.copyOf(best, length);
+        }
+        resetNode(node, nodeWeight);
+        return node;
+    }
+
+//    reuse a node that has been cut from every neighbour
+    void resetNode(int node, double nodeWeight) {
+        left[node] = NIL;
+        right[node] = NIL;
+        parent[node] = NIL;
+        reversed[node] = false;
+        weight[node] = nodeWeight;
+        best[node] = node;
+    }
+
+    double weightOf(int node) {
+        return weight[node];
+    }
+
+    boolean connected(int u, int v) {
+        return u == v || findRoot(u) == findRoot(v);
+    }
+
+//    u and v must be in different trees
+    void link(int u, int v) {
+        makeRoot(u);
+        parent[u] = v;
+    }
+
+//    u and v must be adjacent
+    void cut(int u, int v) {
+        makeRoot(u);
+        access(v);
+        // u is now the only node left of v on the preferred path
+        left[v] = NIL;
+        parent[u] = NIL;
+        pull(v);
+    }
+
+//    node with the largest weight on the path from u to v, both must be connected
+    int pathMax(int u, int v) {
+        makeRoot(u);
+        access(v);
+        return best[v];
+    }
+
+    private void makeRoot(int x) {
+        access(x);
+        reversed[x] = !reversed[x];
+    }
+
+    private int findRoot(int x) {
+        access(x);
+        push(x);
+        while (left[x] != NIL) {
+            x = left[x];
+            push(x);
+        }
+        splay(x);
+        return x;
+    }
+
+//    make the path from the tree root to x preferred, x ends up at the root of its splay tree
+    private void access(int x) {
+        int last = NIL;
+        for (int y = x; y != NIL; y = parent[y]) {
+            splay(y);
+            right[y] = last;
+            pull(y);
+            last = y;
+        }
+        splay(x);
+    }
+
+    private void splay(int x) {
+        pushDownFromRoot(x);
+        while (!isSplayRoot(x)) {
+            int y = parent[x];
+            if (!isSplayRoot(y)) {
+                int z = parent[y];
+                rotate((left[y] == x) == (left[z] == y) ? y : x);
+            }
+            rotate(x);
+        }
+    }
+
+    private void rotate(int x) {
+        int y = parent[x];
+        int z = parent[y];
+        if (!isSplayRoot(y)) {
+            if (left[z] == y) {
+                left[z] = x;
+            } else {
+                right[z] = x;
+            }
+        }
+        parent[x] = z;
+
+        if (left[y] == x) {
+            left[y] = right[x];
+            parent[right[x]] = y;
+            right[x] = y;
+        } else {
+            right[y] = left[x];
+            parent[left[x]] = y;
+            left[x] = y;
+        }
+        parent[y] = x;
+        parent[NIL] = NIL;
+
+        pull(y);
+        pull(x);
+    }
+
+//    pending reversals must be applied top down before rotating
+    private void pushDownFromRoot(int x) {
+        int depth = 0;
+        int node = x;
+        while (true) {
+            if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            stack[depth++] = node;
+            if (isSplayRoot(node)) {
+                break;
+            }
+            node = parent[node];
+        }
+        while (depth > 0) {
+            push(stack[--depth]);
+        }
+    }
+
+    private boolean isSplayRoot(int x) {
+        int p = parent[x];
+        return p == NIL || (left[p] != x && right[p] != x);
+    }
+
+    private void push(int x) {
+        if (reversed[x]) {
+            int tmp = left[x];
+            left[x] = right[x];
+            right[x] = tmp;
+            if (left[x] != NIL) reversed[left[x]] = !reversed[left[x]];
+            if (right[x] != NIL) reversed[right[x]] = !reversed[right[x]];
+            reversed[x] = false;
+        }
+    }
+
+    private void pull(int x) {
+        int max = x;
+        if (left[x] != NIL && weight[best[left[x]]] > weight[max]) max = best[left[x]];
+        if (right[x] != NIL && weight[best[right[x]]] > weight[max]) max = best[right[x]];
+        best[x] = max;
+    }
+}
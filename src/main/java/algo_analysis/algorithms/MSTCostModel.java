@@ -0,0 +1,227 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.algorithms.MSTSelector.Engine;
+import algo_analysis.algorithms.MSTSelector.Profile;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.generator.GeneratedGraph;
+import algo_analysis.generator.GraphGenerator;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Predicted running time of every MST engine as intercept + slope * work
+ * Work is the engine's own estimate from a graph Profile, the intercept covers fixed costs
+ * such as fork-join start up. calibrate() fits both per engine by least squares over timed
+ * runs on generated graphs, so the crossover points between engines match the machine it
+ * runs on. Models are saved and loaded as properties files.
+ */
+public final class MSTCostModel {
+    // graph sizes and average degrees measured by calibrate()
+    private static final int[] CALIBRATION_VERTICES = {2_000, 20_000, 100_000};
+    private static final int[] CALIBRATION_DEGREES = {4, 16, 64};
+    private static final int[] CALIBRATION_MAX_WEIGHTS = {GraphGenerator.DEFAULT_MAX_WEIGHT, Integer.MAX_VALUE};
+    // complete graphs, where the matrix engine competes
+    private static final int[] CALIBRATION_COMPLETE = {500, 1_000, 2_000};
+    private static final long CALIBRATION_MAX_EDGES = 2_000_000;
+    private static final int TIMED_RUNS = 3;
+
+    private final Map<Engine, double[]> coefficients; // {intercept ms, ns per work unit}
+
+    private MSTCostModel(Map<Engine, double[]> coefficients) {
+        this.coefficients = coefficients;
+    }
+
+//    rounded figures from a single core JVM 17, intercepts timed on graphs of a few dozen vertices,
+//    slopes on graphs of 300 to 2000 vertices, calibrate() replaces them with measured ones
+    public static MSTCostModel defaults() {
+        Map<Engine, double[]> coefficients = new EnumMap<>(Engine.class);
+        coefficients.put(Engine.HEAP_PRIM, new double[]{0.002, 25.0});
+        coefficients.put(Engine.DENSE_PRIM, new double[]{0.003, 4.0});
+        coefficients.put(Engine.KRUSKAL, new double[]{0.006, 8.0});
+        coefficients.put(Engine.BORUVKA, new double[]{0.01, 8.0});
+        return new MSTCostModel(coefficients);
+    }
+
+    public double predictMs(Engine engine, Profile profile) {
+        double[] c = coefficients.get(engine);
+        return c[0] + c[1] * engine.work(profile) / 1_000_000.0;
+    }
+
+    public double getInterceptMs(Engine engine) {
+        return coefficients.get(engine)[0];
+    }
+
+    public double getNanosPerUnit(Engine engine) {
+        return coefficients.get(engine)[1];
+    }
+
+//    hash of every coefficient, models that predict the same times get the same fingerprint
+    public String fingerprint() {
+        long hash = 17;
+        for (Engine engine : Engine.values()) {
+            for (double c : coefficients.get(engine)) {
+                hash = hash * 31 + Double.doubleToLongBits(c);
+            }
+        }
+        return Long.toHexString(hash);
+    }
+
+    /**
+     * Times every engine on seeded random graphs of several sizes, densities and weight
+     * ranges and fits a model to the fastest of a few runs per graph
+     */
+    public static MSTCostModel calibrate(long seed) {
+        Map<Engine, List<double[]>> samples = new EnumMap<>(Engine.class);
+        for (Engine engine : Engine.values()) {
+            samples.put(engine, new ArrayList<>());
+        }
+
+        for (int n : CALIBRATION_VERTICES) {
+            for (int degree : CALIBRATION_DEGREES) {
+                long m = (long) n * degree / 2;
+                if (m > CALIBRATION_MAX_EDGES) {
+                    continue;
+                }
+                for (int maxWeight : CALIBRATION_MAX_WEIGHTS) {
+                    measure(generate(seed++, n, m, maxWeight), samples);
+                }
+            }
+        }
+        for (int n : CALIBRATION_COMPLETE) {
+            measure(generateComplete(seed++, n), samples);
+        }
+
+        Map<Engine, double[]> coefficients = new EnumMap<>(Engine.class);
+        for (Engine engine : Engine.values()) {
+            coefficients.put(engine, fit(samples.get(engine)));
+        }
+        return new MSTCostModel(coefficients);
+    }
+
+//    keys missing from the file keep their default values
+    public static MSTCostModel load(Path path) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+
+        MSTCostModel model = defaults();
+        for (Engine engine : Engine.values()) {
+            double[] c = model.coefficients.get(engine);
+            c[0] = parse(properties, engine.label() + ".intercept_ms", c[0]);
+            c[1] = parse(properties, engine.label() + ".ns_per_unit", c[1]);
+        }
+        return model;
+    }
+
+    public void save(Path path) throws IOException {
+        Properties properties = new Properties();
+        for (Engine engine : Engine.values()) {
+            double[] c = coefficients.get(engine);
+            properties.setProperty(engine.label() + ".intercept_ms", Double.toString(c[0]));
+            properties.setProperty(engine.label() + ".ns_per_unit", Double.toString(c[1]));
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            properties.store(writer, "MST engine cost model, time = intercept_ms + ns_per_unit * work");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder();
+        for (Engine engine : Engine.values()) {
+            double[] c = coefficients.get(engine);
+            text.append(String.format("%s: %.3f ms + %.3f ns/unit%n", engine.label(), c[0], c[1]));
+        }
+        return text.toString();
+    }
+
+//    adds a {work, ms} sample for every engine that can run on the graph
+    private static void measure(CsrGraph<String> graph, Map<Engine, List<double[]>> samples) {
+        Profile profile = Profile.of(graph);
+        for (Engine engine : Engine.values()) {
+            if (engine.isAvailable(profile)) {
+                samples.get(engine).add(new double[]{engine.work(profile), time(engine, graph)});
+            }
+        }
+    }
+
+    private static CsrGraph<String> generateComplete(long seed, int n) {
+        GeneratedGraph graph = new GeneratedGraph(n, n * (n - 1) / 2);
+        try {
+            new GraphGenerator(seed).complete(n, graph);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return graph.toCsrGraph();
+    }
+
+    private static CsrGraph<String> generate(long seed, int n, long m, int maxWeight) {
+        GeneratedGraph graph = new GeneratedGraph(n, (int) m);
+        try {
+            new GraphGenerator(seed, maxWeight).random(n, m, true, graph);
+        } catch (IOException e) {
+            // GeneratedGraph only writes to memory
+            throw new IllegalStateException(e);
+        }
+        return graph.toCsrGraph();
+    }
+
+//    one warm-up run, then the fastest of TIMED_RUNS
+    private static double time(Engine engine, CsrGraph<String> graph) {
+        MSTSelector.run(engine, graph);
+        double best = Double.POSITIVE_INFINITY;
+        for (int run = 0; run < TIMED_RUNS; run++) {
+            best = Math.min(best, MSTSelector.run(engine, graph).executionTimeMs);
+        }
+        return best;
+    }
+
+//    least squares line through {work, ms} points, returns {intercept ms, ns per work unit}
+    static double[] fit(List<double[]> points) {
+        int n = points.size();
+        if (n == 0) {
+            return new double[]{0.0, 0.0};
+        }
+        double sumX = 0, sumY = 0, sumXX = 0, sumXY = 0;
+        for (double[] p : points) {
+            sumX += p[0];
+            sumY += p[1];
+            sumXX += p[0] * p[0];
+            sumXY += p[0] * p[1];
+        }
+
+        double denominator = n * sumXX - sumX * sumX;
+        double slope = denominator == 0 ? 0.0 : (n * sumXY - sumX * sumY) / denominator;
+        double intercept = (sumY - slope * sumX) / n;
+
+        // noisy samples can tilt the line, fall back to a line through the origin
+        if (slope <= 0 || intercept < 0) {
+            intercept = 0.0;
+            slope = sumXX == 0 ? 0.0 : sumXY / sumXX;
+        }
+        return new double[]{intercept, slope * 1_000_000.0};
+    }
+
+    private static double parse(Properties properties, String key, double fallback) {
+        String raw = properties.getProperty(key);
+        if (raw == null) {
+            return fallback;
+        }
+        try {
+            return Double.parseDouble(raw.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number for " + key + ": " + raw);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.DenseGraph;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Picks the MST engine expected to be fastest for a graph and runs it
+ * A Profile of the graph (vertex and edge counts, density, radix passes the weights need)
+ * is fed to an MSTCostModel, which predicts each engine's time from a per engine work
+ * estimate. The engine with the lowest prediction wins. Density decides whether the matrix
+ * engine is a candidate at all, see DENSE_MIN_DENSITY. The default model can be replaced
+ * by one calibrated on the current machine, see MSTCostModel.calibrate.
+ */
+public final class MSTSelector {
+    // below this density most matrix entries are empty and the V^2 scans are wasted work
+    public static final double DENSE_MIN_DENSITY = 0.5;
+
+    /**
+     * Engines the selector can dispatch to, all run on a CSR snapshot
+     * HEAP_PRIM eager Prim with an indexed heap
+     * DENSE_PRIM O(V^2) Prim on an adjacency matrix, only for dense graphs whose matrix fits in the heap
+     * KRUSKAL Kruskal with radix sorted edges
+     * BORUVKA parallel Borůvka on the common fork-join pool
+     */
+    public enum Engine {
+        HEAP_PRIM,
+        DENSE_PRIM,
+        KRUSKAL,
+        BORUVKA;
+
+        public String label() {
+            return name().toLowerCase();
+        }
+
+//        work estimate the cost model scales, roughly the number of inner loop steps
+        double work(Profile profile) {
+            double v = profile.vertices;
+            double e = profile.edges;
+            double logV = Math.log(Math.max(2.0, v)) / Math.log(2.0);
+            switch (this) {
+                case HEAP_PRIM:
+                    return e + v * logV;
+                case DENSE_PRIM:
+                    // filling the matrix and the row scans, both touch every entry once
+                    return v * v;
+                case KRUSKAL:
+                    // one pass over the edges per radix byte, one more for the union-find loop
+                    return e * (1 + profile.radixPasses) + v;
+                case BORUVKA:
+                    return (e * logV + v) / profile.parallelism;
+                default:
+                    throw new IllegalStateException("Unknown engine: " + this);
+            }
+        }
+
+//        the graph must be dense and the matrix may take at most a quarter of the maximum heap
+        boolean isAvailable(Profile profile) {
+            if (this != DENSE_PRIM) {
+                return true;
+            }
+            return profile.density >= DENSE_MIN_DENSITY
+                    && profile.vertices <= DenseGraph.MAX_VERTICES
+                    && DenseGraph.matrixBytes(profile.vertices) <= Runtime.getRuntime().maxMemory() / 4;
+        }
+    }
+
+    private final MSTCostModel model;
+    private final IndexPriorityQueue.Type heapType;
+
+    public MSTSelector() {
+        this(MSTCostModel.defaults());
+    }
+
+    public MSTSelector(MSTCostModel model) {
+        this(model, IndexPriorityQueue.Type.BINARY);
+    }
+
+//    heapType is the priority queue HEAP_PRIM runs on
+    public MSTSelector(MSTCostModel model, IndexPriorityQueue.Type heapType) {
+        this.model = model;
+        this.heapType = heapType;
+    }
+
+    public MSTCostModel getModel() {
+        return model;
+    }
+
+    public IndexPriorityQueue.Type getHeapType() {
+        return heapType;
+    }
+
+    public <T> Engine select(CsrGraph<T> graph) {
+        return select(Profile.of(graph));
+    }
+
+//    engine with the lowest predicted time, ties go to the earlier engine
+    public Engine select(Profile profile) {
+        Engine best = Engine.values()[0];
+        double bestTime = Double.POSITIVE_INFINITY;
+        for (Engine engine : Engine.values()) {
+            if (!engine.isAvailable(profile)) {
+                continue;
+            }
+            double predicted = model.predictMs(engine, profile);
+            if (predicted < bestTime) {
+                best = engine;
+                bestTime = predicted;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Profile the graph, pick an engine and run it, the profiling time is part of the result
+     */
+    public <T> Selection findMST(CsrGraph<T> graph) {
+        long start = System.nanoTime();
+        Engine engine = graph == null ? Engine.HEAP_PRIM : select(graph);
+        double selectMs = (System.nanoTime() - start) / 1_000_000.0;
+
+        AlgorithmResult result = run(engine, graph, heapType);
+        result.executionTimeMs += selectMs;
+        return new Selection(engine, result);
+    }
+
+    public static <T> AlgorithmResult run(Engine engine, CsrGraph<T> graph) {
+        return run(engine, graph, IndexPriorityQueue.Type.BINARY);
+    }
+
+    public static <T> AlgorithmResult run(Engine engine, CsrGraph<T> graph, IndexPriorityQueue.Type heapType) {
+        switch (engine) {
+            case HEAP_PRIM:
+                return PrimAlgorithm.findMST(graph, heapType);
+            case DENSE_PRIM:
+                return DensePrimAlgorithm.findMST(graph);
+            case KRUSKAL:
+                return KruskalAlgorithm.findMST(graph, KruskalAlgorithm.Strategy.RADIX_SORT);
+            case BORUVKA:
+                return BoruvkaAlgorithm.findMST(graph);
+            default:
+                throw new IllegalStateException("Unknown engine: " + engine);
+        }
+    }
+
+    /**
+     * Engine that was picked and the result it produced
+     */
+    public static final class Selection {
+        public final Engine engine;
+        public final AlgorithmResult result;
+
+        Selection(Engine engine, AlgorithmResult result) {
+            this.engine = engine;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Size, density and weight distribution of a graph, everything the cost model looks at
+     * radixPasses is the number of byte passes the radix sort cannot skip, 0 to 8
+     */
+    public static final class Profile {
+        public final int vertices;
+        public final int edges;
+        public final double density;
+        public final int radixPasses;
+        public final int parallelism;
+
+        public Profile(int vertices, int edges, int radixPasses, int parallelism) {
+            this.vertices = vertices;
+            this.edges = edges;
+            this.density = vertices < 2 ? 0.0 : 2.0 * edges / ((double) vertices * (vertices - 1));
+            this.radixPasses = radixPasses;
+            this.parallelism = Math.max(1, parallelism);
+        }
+
+//        one pass over the edge weights, parallelism is that of the common pool
+        public static <T> Profile of(CsrGraph<T> graph) {
+            int m = graph.getEdgeCount();
+            long differing = 0;
+            if (m > 0) {
+                long first = EdgeSorter.sortableBits(graph.edgeWeight(0));
+                for (int e = 1; e < m; e++) {
+                    differing |= EdgeSorter.sortableBits(graph.edgeWeight(e)) ^ first;
+                }
+            }
+
+            // a byte pass is skipped when every key has the same byte there
+            int passes = 0;
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                if (((differing >>> shift) & 0xFF) != 0) {
+                    passes++;
+                }
+            }
+
+            return new Profile(graph.getVertexCount(), m, passes, ForkJoinPool.getCommonPoolParallelism());
+        }
+
+        public double averageDegree() {
+            return vertices == 0 ? 0.0 : 2.0 * edges / vertices;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("V=%d, E=%d, density=%.4f, radix passes=%d, parallelism=%d",
+                    vertices, edges, density, radixPasses, parallelism);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package algo_analysis.algorithms;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed pairing heap, the tree is kept in child / sibling / prev arrays
+ * insert and decrease-key link one tree into the root in O(1), deleteMin pairs the
+ * root's children left to right and melds the pairs right to left, O(log n) amortized.
+ * Steps are links, each costs one key comparison
+ */
+public class PairingHeap implements IndexPriorityQueue {
+    private static final int NONE = -1;
+
+    private final int[] child;    // leftmost child
+    private final int[] sibling;  // next sibling to the right
+    private final int[] prev;     // parent for a leftmost child, otherwise left sibling
+    private final boolean[] present;
+    private final double[] keys;
+    private final int[] pairs;    // scratch for deleteMin
+    private int root;
+    private int size;
+    private long steps;
+
+    public PairingHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.child = new int[capacity];
+        this.sibling = new int[capacity];
+        this.prev = new int[capacity];
+        this.present = new boolean[capacity];
+        this.keys = new double[capacity];
+        this.pairs = new int[capacity / 2 + 1];
+        this.root = NONE;
+        this.size = 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return present[index];
+    }
+
+    @Override
+    public double keyOf(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        return keys[index];
+    }
+
+    @Override
+    public void insert(int index, double key) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the queue.");
+        }
+        keys[index] = key;
+        child[index] = NONE;
+        sibling[index] = NONE;
+        prev[index] = NONE;
+        present[index] = true;
+        size++;
+        root = root == NONE ? index : link(root, index);
+    }
+
+    @Override
+    public void decreaseKey(int index, double key) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        if (key > keys[index]) {
+            throw new IllegalArgumentException("New key is greater than the current key.");
+        }
+        keys[index] = key;
+        if (index == root) {
+            return;
+        }
+
+        // cut the subtree out of its sibling list and link it back in at the root
+        int before = prev[index];
+        if (child[before] == index) {
+            child[before] = sibling[index];
+        } else {
+            sibling[before] = sibling[index];
+        }
+        if (sibling[index] != NONE) {
+            prev[sibling[index]] = before;
+        }
+        sibling[index] = NONE;
+        prev[index] = NONE;
+        root = link(root, index);
+    }
+
+    @Override
+    public int deleteMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        int min = root;
+        present[min] = false;
+        size--;
+        root = combine(child[min]);
+        child[min] = NONE;
+        return min;
+    }
+
+    @Override
+    public long getSteps() {
+        return steps;
+    }
+
+//    two-pass pairing of a sibling list, returns the new root
+    private int combine(int first) {
+        if (first == NONE) {
+            return NONE;
+        }
+
+        int count = 0;
+        int a = first;
+        while (a != NONE) {
+            int b = sibling[a];
+            if (b == NONE) {
+                detach(a);
+                pairs[count++] = a;
+                break;
+            }
+            int next = sibling[b];
+            detach(a);
+            detach(b);
+            pairs[count++] = link(a, b);
+            a = next;
+        }
+
+        int merged = pairs[count - 1];
+        for (int i = count - 2; i >= 0; i--) {
+            merged = link(pairs[i], merged);
+        }
+        return merged;
+    }
+
+    private void detach(int node) {
+        sibling[node] = NONE;
+        prev[node] = NONE;
+    }
+
+//    two roots become one, the larger key turns into the leftmost child of the smaller
+    private int link(int a, int b) {
+        steps++;
+        if (keys[b] < keys[a]) {
+            int tmp = a;
+            a = b;
+            b = tmp;
+        }
+        sibling[b] = child[a];
+        if (child[a] != NONE) {
+            prev[child[a]] = b;
+        }
+        prev[b] = a;
+        child[a] = b;
+        return a;
+    }
+}
@@ -2,25 +2,60 @@ package algo_analysis.algorithms;
 
 import algo_analysis.dto.AlgorithmResult;
 import algo_analysis.dto.EdgeInfo;
+import algo_analysis.entity.CsrGraph;
 import algo_analysis.entity.Edge;
 import algo_analysis.entity.Graph;
 import algo_analysis.entity.Vertex;
 import algo_analysis.util.PerformanceMetrics;
+import algo_analysis.util.PerformanceMetrics.Counter;
+import algo_analysis.util.PerformanceMetrics.Phase;
 
 import java.util.*;
 
 /**
  * Prim's Algorithm for finding MST
- * Time Complexity: O(E * V) with this implementation
+ * Time Complexity: O(E * V) with the edge scan implementation,
+ * O(E log V) with the heap based implementations
  */
 public class PrimAlgorithm {
 
+    /**
+     * EDGE_SCAN rescans every edge per added vertex (original implementation)
+     * LAZY_HEAP keeps candidate edges in a binary heap and skips stale ones
+     * EAGER_HEAP keeps one entry per vertex in an indexed heap with decrease-key, any IndexPriorityQueue.Type
+     */
+    public enum Strategy {
+        EDGE_SCAN("scan"),
+        LAZY_HEAP("lazy"),
+        EAGER_HEAP("eager");
+
+        private final String label;
+
+        Strategy(String label) {
+            this.label = label;
+        }
+
+        public String label() {
+            return label;
+        }
+
+//        accepts the short label or the constant name, "lazy" and "lazy-heap" both work
+        public static Strategy parse(String raw) {
+            for (Strategy strategy : values()) {
+                if (strategy.label.equalsIgnoreCase(raw) || strategy.name().equalsIgnoreCase(raw.replace('-', '_'))) {
+                    return strategy;
+                }
+            }
+            throw new IllegalArgumentException("Unknown Prim strategy: " + raw);
+        }
+    }
+
     /**
      * Find MST using Prim's algorithm with performance tracking
      */
     public static <T> AlgorithmResult findMST(Graph<T> graph) {
         AlgorithmResult result = new AlgorithmResult();
-        PerformanceMetrics metrics = new PerformanceMetrics();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
 
         if (graph == null || graph.getVertexCount() == 0) {
             result.operationsCount = 0;
@@ -35,16 +70,15 @@ public class PrimAlgorithm {
         List<Edge<T>> mstEdges = new ArrayList<>();
         double totalCost = 0.0;
 
-        Vertex<T> startVertex = graph.getAllVertices().iterator().next();
+        Vertex<T> startVertex = graph.getVerticesView().iterator().next();
         visited.add(startVertex);
-        metrics.incrementOperations();
 
         while (visited.size() < graph.getVertexCount()) {
             Edge<T> minEdge = null;
             double minWeight = Double.MAX_VALUE;
 
-            for (Edge<T> edge : graph.getAllEdges()) {
-                metrics.incrementOperations(); // Count edge examination
+            for (Edge<T> edge : graph.getEdgesView()) {
+                metrics.increment(Counter.EDGE_EXAMINATIONS);
 
                 Vertex<T> source = edge.getSource();
                 Vertex<T> target = edge.getTarget();
@@ -53,7 +87,7 @@ public class PrimAlgorithm {
                 boolean targetVisited = visited.contains(target);
 
                 if (sourceVisited != targetVisited) {
-                    metrics.incrementOperations(); // Count comparison
+                    metrics.increment(Counter.COMPARISONS);
 
                     if (edge.getWeight() < minWeight) {
                         minWeight = edge.getWeight();
@@ -73,7 +107,6 @@ public class PrimAlgorithm {
                         : minEdge.getSource();
 
                 visited.add(newVertex);
-                metrics.incrementOperations();
             } else {
                 break;
             }
@@ -90,8 +123,7 @@ public class PrimAlgorithm {
         }
 
         result.totalCost = totalCost;
-        result.operationsCount = metrics.getOperationsCount();
-        result.executionTimeMs = metrics.getExecutionTimeMs();
+        metrics.record(result);
 
         return result;
     }
@@ -106,7 +138,7 @@ public class PrimAlgorithm {
 
         Set<Vertex<T>> visited = new HashSet<>();
 
-        Vertex<T> startVertex = graph.getAllVertices().iterator().next();
+        Vertex<T> startVertex = graph.getVerticesView().iterator().next();
         visited.add(startVertex);
 
         while (visited.size() < graph.getVertexCount()) {
@@ -114,7 +146,7 @@ public class PrimAlgorithm {
             double minWeight = Double.MAX_VALUE;
 
             // find minimum edge
-            for (Edge<T> edge : graph.getAllEdges()) {
+            for (Edge<T> edge : graph.getEdgesView()) {
                 Vertex<T> source = edge.getSource();
                 Vertex<T> target = edge.getTarget();
 
@@ -142,4 +174,268 @@ public class PrimAlgorithm {
 
         return mstEdges;
     }
-}
\ No newline at end of file
+
+    /**
+     * Find MST using the selected strategy with performance tracking
+     */
+    public static <T> AlgorithmResult findMST(Graph<T> graph, Strategy strategy) {
+        return findMST(graph, strategy, IndexPriorityQueue.Type.BINARY);
+    }
+
+    /**
+     * Find MST using the selected strategy, EAGER_HEAP runs on the given priority queue type
+     */
+    public static <T> AlgorithmResult findMST(Graph<T> graph, Strategy strategy, IndexPriorityQueue.Type heapType) {
+        if (strategy == Strategy.EDGE_SCAN) {
+            return findMST(graph);
+        }
+
+        AlgorithmResult result = new AlgorithmResult();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
+
+        if (graph == null || graph.getVertexCount() == 0) {
+            result.operationsCount = 0;
+            result.executionTimeMs = 0.0;
+            result.totalCost = 0.0;
+            return result;
+        }
+
+        metrics.start();
+        List<Edge<T>> mstEdges = strategy == Strategy.LAZY_HEAP
+                ? lazyHeapMST(graph, metrics)
+                : eagerHeapMST(graph, heapType, metrics);
+        metrics.stop();
+
+        double totalCost = 0.0;
+        for (Edge<T> edge : mstEdges) {
+            totalCost += edge.getWeight();
+            result.mstEdges.add(new EdgeInfo(
+                    edge.getSource().getData().toString(),
+                    edge.getTarget().getData().toString(),
+                    edge.getWeight()
+            ));
+        }
+
+        result.totalCost = totalCost;
+        metrics.record(result);
+
+        return result;
+    }
+
+    // find MST with the selected strategy and return the actual edges
+    public static <T> List<Edge<T>> findMSTEdges(Graph<T> graph, Strategy strategy) {
+        return findMSTEdges(graph, strategy, IndexPriorityQueue.Type.BINARY);
+    }
+
+    // same, EAGER_HEAP runs on the given priority queue type
+    public static <T> List<Edge<T>> findMSTEdges(Graph<T> graph, Strategy strategy, IndexPriorityQueue.Type heapType) {
+        if (strategy == Strategy.EDGE_SCAN) {
+            return findMSTEdges(graph);
+        }
+        if (graph == null || graph.getVertexCount() == 0) {
+            return new ArrayList<>();
+        }
+
+        PerformanceMetrics metrics = PerformanceMetrics.timingOnly();
+        return strategy == Strategy.LAZY_HEAP
+                ? lazyHeapMST(graph, metrics)
+                : eagerHeapMST(graph, heapType, metrics);
+    }
+
+    /**
+     * Find MST on a CSR snapshot using eager Prim with an indexed binary heap, O(E log V)
+     */
+    public static <T> AlgorithmResult findMST(CsrGraph<T> graph) {
+        return findMST(graph, IndexPriorityQueue.Type.BINARY);
+    }
+
+    /**
+     * Find MST on a CSR snapshot using eager Prim on the given heap type,
+     * the heap's internal steps are reported as heap_steps
+     */
+    public static <T> AlgorithmResult findMST(CsrGraph<T> graph, IndexPriorityQueue.Type heapType) {
+        AlgorithmResult result = new AlgorithmResult();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
+
+        if (graph == null || graph.getVertexCount() == 0) {
+            result.operationsCount = 0;
+            result.executionTimeMs = 0.0;
+            result.totalCost = 0.0;
+            return result;
+        }
+
+        metrics.start();
+
+        int n = graph.getVertexCount();
+        int[] edgeTo = new int[n];
+        double[] distTo = new double[n];
+        boolean[] marked = new boolean[n];
+        Arrays.fill(edgeTo, -1);
+        Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+
+        int[] mstEdges = new int[n - 1];
+        int mstSize = 0;
+        double totalCost = 0.0;
+
+        IndexPriorityQueue heap = IndexPriorityQueue.create(heapType, n);
+        distTo[0] = 0.0;
+        heap.insert(0, 0.0);
+
+        metrics.startPhase(Phase.MAIN_LOOP);
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            metrics.increment(Counter.HEAP_OPERATIONS);
+            marked[v] = true;
+
+            if (edgeTo[v] != -1) {
+                mstEdges[mstSize++] = edgeTo[v];
+                totalCost += graph.edgeWeight(edgeTo[v]);
+            }
+
+            for (int arc = graph.arcStart(v); arc < graph.arcEnd(v); arc++) {
+                metrics.increment(Counter.EDGE_EXAMINATIONS);
+
+                int w = graph.arcTarget(arc);
+                double weight = graph.arcWeight(arc);
+                if (marked[w] || weight >= distTo[w]) {
+                    continue;
+                }
+
+                distTo[w] = weight;
+                edgeTo[w] = graph.arcEdge(arc);
+                if (heap.contains(w)) {
+                    heap.decreaseKey(w, weight);
+                } else {
+                    heap.insert(w, weight);
+                }
+                metrics.increment(Counter.HEAP_OPERATIONS);
+            }
+        }
+        metrics.endPhase(Phase.MAIN_LOOP);
+        metrics.add(Counter.HEAP_STEPS, heap.getSteps());
+
+        metrics.stop();
+
+        for (int i = 0; i < mstSize; i++) {
+            int edge = mstEdges[i];
+            result.mstEdges.add(new EdgeInfo(
+                    graph.getVertexData(graph.edgeSource(edge)).toString(),
+                    graph.getVertexData(graph.edgeTarget(edge)).toString(),
+                    graph.edgeWeight(edge)
+            ));
+        }
+
+        result.totalCost = totalCost;
+        metrics.record(result);
+
+        return result;
+    }
+
+//    lazy prim: heap of crossing edges, stale edges are discarded when polled
+    private static <T> List<Edge<T>> lazyHeapMST(Graph<T> graph, PerformanceMetrics metrics) {
+        Set<Vertex<T>> visited = new HashSet<>();
+        List<Edge<T>> mstEdges = new ArrayList<>();
+        PriorityQueue<Edge<T>> heap = new PriorityQueue<>(Comparator.comparingDouble(Edge::getWeight));
+
+        Vertex<T> startVertex = graph.getVerticesView().iterator().next();
+        metrics.startPhase(Phase.MAIN_LOOP);
+        visit(startVertex, graph, visited, heap, metrics);
+
+        while (!heap.isEmpty() && mstEdges.size() < graph.getVertexCount() - 1) {
+            Edge<T> edge = heap.poll();
+            metrics.increment(Counter.HEAP_OPERATIONS);
+
+            boolean sourceVisited = visited.contains(edge.getSource());
+            boolean targetVisited = visited.contains(edge.getTarget());
+            if (sourceVisited && targetVisited) {
+                continue;
+            }
+
+            mstEdges.add(edge);
+            visit(sourceVisited ? edge.getTarget() : edge.getSource(), graph, visited, heap, metrics);
+        }
+        metrics.endPhase(Phase.MAIN_LOOP);
+
+        return mstEdges;
+    }
+
+    private static <T> void visit(Vertex<T> vertex, Graph<T> graph,
+                                  Set<Vertex<T>> visited, PriorityQueue<Edge<T>> heap,
+                                  PerformanceMetrics metrics) {
+        visited.add(vertex);
+
+        for (Edge<T> edge : graph.getIncidentEdgesView(vertex)) {
+            metrics.increment(Counter.EDGE_EXAMINATIONS);
+
+            Vertex<T> other = edge.getSource().equals(vertex) ? edge.getTarget() : edge.getSource();
+            if (!visited.contains(other)) {
+                heap.add(edge);
+                metrics.increment(Counter.HEAP_OPERATIONS);
+            }
+        }
+    }
+
+//    eager prim: one heap entry per vertex keyed by its cheapest crossing edge
+    @SuppressWarnings("unchecked")
+    private static <T> List<Edge<T>> eagerHeapMST(Graph<T> graph, IndexPriorityQueue.Type heapType,
+                                                  PerformanceMetrics metrics) {
+        int n = graph.getVertexCount();
+
+        // dense ids so distances and heap positions live in arrays
+        metrics.startPhase(Phase.BUILD);
+        List<Vertex<T>> vertexById = new ArrayList<>(graph.getVerticesView());
+        Map<Vertex<T>, Integer> ids = new HashMap<>();
+        for (Vertex<T> vertex : vertexById) {
+            ids.put(vertex, ids.size());
+        }
+        metrics.endPhase(Phase.BUILD);
+
+        Edge<T>[] edgeTo = (Edge<T>[]) new Edge[n];
+        double[] distTo = new double[n];
+        boolean[] marked = new boolean[n];
+        Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+
+        List<Edge<T>> mstEdges = new ArrayList<>();
+        IndexPriorityQueue heap = IndexPriorityQueue.create(heapType, n);
+
+        Vertex<T> startVertex = graph.getVerticesView().iterator().next();
+        int start = ids.get(startVertex);
+        distTo[start] = 0.0;
+        heap.insert(start, 0.0);
+
+        metrics.startPhase(Phase.MAIN_LOOP);
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            metrics.increment(Counter.HEAP_OPERATIONS);
+            marked[v] = true;
+
+            if (edgeTo[v] != null) {
+                mstEdges.add(edgeTo[v]);
+            }
+
+            Vertex<T> vertex = vertexById.get(v);
+            for (Edge<T> edge : graph.getIncidentEdgesView(vertex)) {
+                metrics.increment(Counter.EDGE_EXAMINATIONS);
+
+                Vertex<T> other = edge.getSource().equals(vertex) ? edge.getTarget() : edge.getSource();
+                int w = ids.get(other);
+                if (marked[w] || edge.getWeight() >= distTo[w]) {
+                    continue;
+                }
+
+                distTo[w] = edge.getWeight();
+                edgeTo[w] = edge;
+                if (heap.contains(w)) {
+                    heap.decreaseKey(w, distTo[w]);
+                } else {
+                    heap.insert(w, distTo[w]);
+                }
+                metrics.increment(Counter.HEAP_OPERATIONS);
+            }
+        }
+        metrics.endPhase(Phase.MAIN_LOOP);
+        metrics.add(Counter.HEAP_STEPS, heap.getSteps());
+
+        return mstEdges;
+    }
+}
@@ -0,0 +1,182 @@
+package algo_analysis.algorithms;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed monotone radix heap on the sortable bits of the keys (see EdgeSorter.sortableBits)
+ * Bucket b holds keys whose highest bit differing from the last extracted minimum is b - 1,
+ * bucket 0 holds keys equal to it. deleteMin empties the lowest bucket into lower ones, so
+ * every key moves at most 64 times. The keys are IEEE 754 bit patterns, so even small integer
+ * weights differ in the exponent or the high mantissa bits and start in the high buckets,
+ * roughly 40 to 63, only keys close to the minimum reach the low ones.
+ *
+ * A radix heap needs keys at or above the last minimum. Prim's keys are edge weights and can
+ * drop below it, such keys go to a 4-ary overflow heap. Every overflow key is below the last
+ * minimum and every bucket key is at or above it, so the overflow is drained first.
+ * Steps are bucket moves and bucket scans plus the overflow heap's comparisons
+ */
+public class RadixHeap implements IndexPriorityQueue {
+    private static final int NONE = -1;
+    private static final int BUCKETS = Long.SIZE + 1;
+
+    private final int[] head = new int[BUCKETS];
+    private final int[] next;
+    private final int[] prev;
+    private final int[] bucketOf;  // NONE when not in a bucket
+    private final long[] bits;
+    private final double[] keys;
+    private final DaryHeap overflow;
+    private long last;
+    private int size;
+    private long steps;
+
+    public RadixHeap(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative.");
+        }
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+        this.bucketOf = new int[capacity];
+        this.bits = new long[capacity];
+        this.keys = new double[capacity];
+        this.overflow = new DaryHeap(4, capacity);
+        this.last = 0;
+        this.size = 0;
+        Arrays.fill(head, NONE);
+        Arrays.fill(bucketOf, NONE);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return bucketOf[index] != NONE || overflow.contains(index);
+    }
+
+    @Override
+    public double keyOf(int index) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        return keys[index];
+    }
+
+    @Override
+    public void insert(int index, double key) {
+        if (contains(index)) {
+            throw new IllegalArgumentException("Index is already in the queue.");
+        }
+        place(index, key);
+        size++;
+    }
+
+    @Override
+    public void decreaseKey(int index, double key) {
+        if (!contains(index)) {
+            throw new NoSuchElementException("Index is not in the queue.");
+        }
+        if (key > keys[index]) {
+            throw new IllegalArgumentException("New key is greater than the current key.");
+        }
+        if (overflow.contains(index)) {
+            keys[index] = key;
+            overflow.decreaseKey(index, key);
+            return;
+        }
+        unlink(index);
+        place(index, key);
+    }
+
+    @Override
+    public int deleteMin() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty.");
+        }
+        size--;
+        if (!overflow.isEmpty()) {
+            return overflow.deleteMin();
+        }
+
+        if (head[0] == NONE) {
+            int bucket = 1;
+            while (head[bucket] == NONE) {
+                bucket++;
+            }
+
+            // the smallest key of the bucket becomes the new reference point
+            long min = -1L; // largest unsigned value
+            for (int i = head[bucket]; i != NONE; i = next[i]) {
+                steps++;
+                if (Long.compareUnsigned(bits[i], min) < 0) {
+                    min = bits[i];
+                }
+            }
+            last = min;
+
+            // relative to the new minimum every key lands in a lower bucket
+            int i = head[bucket];
+            head[bucket] = NONE;
+            while (i != NONE) {
+                int following = next[i];
+                steps++;
+                push(i, bucketFor(bits[i]));
+                i = following;
+            }
+        }
+
+        int min = head[0];
+        unlink(min);
+        return min;
+    }
+
+    @Override
+    public long getSteps() {
+        return steps + overflow.getSteps();
+    }
+
+    private void place(int index, double key) {
+        keys[index] = key;
+        bits[index] = EdgeSorter.sortableBits(key);
+        if (Long.compareUnsigned(bits[index], last) < 0) {
+            overflow.insert(index, key);
+        } else {
+            push(index, bucketFor(bits[index]));
+        }
+    }
+
+    private int bucketFor(long key) {
+        return key == last ? 0 : Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    private void push(int index, int bucket) {
+        bucketOf[index] = bucket;
+        prev[index] = NONE;
+        next[index] = head[bucket];
+        if (head[bucket] != NONE) {
+            prev[head[bucket]] = index;
+        }
+        head[bucket] = index;
+    }
+
+    private void unlink(int index) {
+        int bucket = bucketOf[index];
+        if (prev[index] != NONE) {
+            next[prev[index]] = next[index];
+        } else {
+            head[bucket] = next[index];
+        }
+        if (next[index] != NONE) {
+            prev[next[index]] = prev[index];
+        }
+        bucketOf[index] = NONE;
+    }
+}
@@ -0,0 +1,251 @@
+package algo_analysis.algorithms;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.ComponentResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.Graph;
+import algo_analysis.util.PerformanceMetrics;
+import algo_analysis.util.PerformanceMetrics.Counter;
+import algo_analysis.util.PerformanceMetrics.Phase;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Minimum spanning forest: one minimum spanning tree per connected component
+ * Components are found first, then eager Prim runs inside each component on a heap sized
+ * to that component. Components share no vertices, so they can be solved in parallel
+ * with every task writing to its own slice of the shared arrays.
+ * Time Complexity: O(V + E log V)
+ */
+public class SpanningForest {
+    // vertices per fork-join leaf task
+    private static final int SEQUENTIAL_THRESHOLD = 1 << 14;
+
+    /**
+     * Find the minimum spanning forest of a Graph, the CSR snapshot is part of the measured work
+     */
+    public static <T> AlgorithmResult findMSF(Graph<T> graph) {
+        if (graph == null || graph.getVertexCount() == 0) {
+            return findMSF((CsrGraph<T>) null);
+        }
+
+        long snapshotStart = System.nanoTime();
+        CsrGraph<T> snapshot = CsrGraph.from(graph);
+        double snapshotMs = (System.nanoTime() - snapshotStart) / 1_000_000.0;
+
+        AlgorithmResult result = findMSF(snapshot);
+        result.executionTimeMs += snapshotMs;
+        return result;
+    }
+
+//    components solved one after another on the calling thread
+    public static <T> AlgorithmResult findMSF(CsrGraph<T> graph) {
+        return findMSF(graph, null);
+    }
+
+    /**
+     * Find the minimum spanning forest, components are solved in parallel on the given pool
+     * or sequentially when pool is null
+     */
+    public static <T> AlgorithmResult findMSF(CsrGraph<T> graph, ForkJoinPool pool) {
+        return findMSF(graph, pool, IndexPriorityQueue.Type.BINARY);
+    }
+
+    /**
+     * Find the minimum spanning forest with Prim on the given heap type in every component
+     */
+    public static <T> AlgorithmResult findMSF(CsrGraph<T> graph, ForkJoinPool pool, IndexPriorityQueue.Type heapType) {
+        AlgorithmResult result = new AlgorithmResult();
+        PerformanceMetrics metrics = PerformanceMetrics.create();
+
+        if (graph == null || graph.getVertexCount() == 0) {
+            result.operationsCount = 0;
+            result.executionTimeMs = 0.0;
+            result.totalCost = 0.0;
+            return result;
+        }
+
+        metrics.start();
+
+        int n = graph.getVertexCount();
+
+        // group vertex ids by component, order[begin[c]..begin[c + 1]) holds component c
+        metrics.startPhase(Phase.BUILD);
+        ConnectedComponents components = pool == null
+                ? ConnectedComponents.sequential(graph)
+                : ConnectedComponents.parallel(graph, pool);
+        int k = components.getCount();
+        int[] begin = new int[k + 1];
+        for (int c = 0; c < k; c++) {
+            begin[c + 1] = begin[c] + components.size(c);
+        }
+        int[] order = new int[n];
+        int[] localId = new int[n];
+        int[] next = Arrays.copyOf(begin, k);
+        for (int v = 0; v < n; v++) {
+            int c = components.componentOf(v);
+            localId[v] = next[c] - begin[c];
+            order[next[c]++] = v;
+        }
+        metrics.endPhase(Phase.BUILD);
+
+        // component c has size - 1 tree edges, stored from begin[c] - c
+        Forest<T> forest = new Forest<>(graph, begin, order, localId, heapType);
+        metrics.startPhase(Phase.MAIN_LOOP);
+        long[] counts = pool == null
+                ? forest.solve(0, k)
+                : pool.invoke(new ComponentTask<>(forest, 0, k));
+        metrics.endPhase(Phase.MAIN_LOOP);
+        metrics.add(Counter.EDGE_EXAMINATIONS, counts[0]);
+        metrics.add(Counter.HEAP_OPERATIONS, counts[1]);
+        metrics.add(Counter.HEAP_STEPS, counts[2]);
+
+        metrics.stop();
+
+        // tree edges are already grouped by component
+        for (int edge : forest.treeEdges) {
+            result.mstEdges.add(new EdgeInfo(
+                    graph.getVertexData(graph.edgeSource(edge)).toString(),
+                    graph.getVertexData(graph.edgeTarget(edge)).toString(),
+                    graph.edgeWeight(edge)
+            ));
+        }
+
+        // per component views over the shared edge list, no copies
+        double totalCost = 0.0;
+        for (int c = 0; c < k; c++) {
+            totalCost += forest.componentCost[c];
+            result.components.add(new ComponentResult(components.size(c), forest.componentCost[c],
+                    result.mstEdges.subList(begin[c] - c, begin[c + 1] - c - 1)));
+        }
+
+        result.totalCost = totalCost;
+        metrics.record(result);
+
+        return result;
+    }
+
+    /**
+     * Shared state of one forest computation, each component only touches its own vertices
+     * and its own slice of treeEdges
+     */
+    private static final class Forest<T> {
+        private final CsrGraph<T> graph;
+        private final int[] begin;
+        private final int[] order;
+        private final int[] localId;
+        private final int[] edgeTo;
+        private final double[] distTo;
+        private final boolean[] marked;
+        private final int[] treeEdges;
+        private final double[] componentCost;
+        private final IndexPriorityQueue.Type heapType;
+
+        Forest(CsrGraph<T> graph, int[] begin, int[] order, int[] localId, IndexPriorityQueue.Type heapType) {
+            int n = graph.getVertexCount();
+            int k = begin.length - 1;
+            this.graph = graph;
+            this.begin = begin;
+            this.order = order;
+            this.localId = localId;
+            this.edgeTo = new int[n];
+            this.distTo = new double[n];
+            this.marked = new boolean[n];
+            this.treeEdges = new int[n - k];
+            this.componentCost = new double[k];
+            this.heapType = heapType;
+            Arrays.fill(edgeTo, -1);
+            Arrays.fill(distTo, Double.POSITIVE_INFINITY);
+        }
+
+//        solve components [from, to), returns {edge examinations, heap operations, heap steps}
+        long[] solve(int from, int to) {
+            long[] counts = new long[3];
+            for (int c = from; c < to; c++) {
+                prim(c, counts);
+            }
+            return counts;
+        }
+
+//        eager Prim from the smallest vertex of the component
+        private void prim(int c, long[] counts) {
+            int size = begin[c + 1] - begin[c];
+            int out = begin[c] - c;
+            double cost = 0.0;
+
+            IndexPriorityQueue heap = IndexPriorityQueue.create(heapType, size);
+            int root = order[begin[c]];
+            distTo[root] = 0.0;
+            heap.insert(localId[root], 0.0);
+
+            while (!heap.isEmpty()) {
+                int v = order[begin[c] + heap.deleteMin()];
+                counts[1]++;
+                marked[v] = true;
+
+                if (edgeTo[v] != -1) {
+                    treeEdges[out++] = edgeTo[v];
+                    cost += graph.edgeWeight(edgeTo[v]);
+                }
+
+                for (int arc = graph.arcStart(v); arc < graph.arcEnd(v); arc++) {
+                    counts[0]++;
+
+                    int w = graph.arcTarget(arc);
+                    double weight = graph.arcWeight(arc);
+                    if (marked[w] || weight >= distTo[w]) {
+                        continue;
+                    }
+
+                    distTo[w] = weight;
+                    edgeTo[w] = graph.arcEdge(arc);
+                    if (heap.contains(localId[w])) {
+                        heap.decreaseKey(localId[w], weight);
+                    } else {
+                        heap.insert(localId[w], weight);
+                    }
+                    counts[1]++;
+                }
+            }
+
+            componentCost[c] = cost;
+            counts[2] += heap.getSteps();
+        }
+    }
+
+    /**
+     * Splits a range of components until it holds one component or few vertices
+     */
+    private static final class ComponentTask<T> extends RecursiveTask<long[]> {
+        private final Forest<T> forest;
+        private final int from;
+        private final int to;
+
+        ComponentTask(Forest<T> forest, int from, int to) {
+            this.forest = forest;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected long[] compute() {
+            int vertices = forest.begin[to] - forest.begin[from];
+            if (to - from <= 1 || vertices <= SEQUENTIAL_THRESHOLD) {
+                return forest.solve(from, to);
+            }
+
+            int mid = (from + to) >>> 1;
+            ComponentTask<T> left = new ComponentTask<>(forest, from, mid);
+            left.fork();
+            long[] right = new ComponentTask<>(forest, mid, to).compute();
+            long[] counts = left.join();
+            counts[0] += right[0];
+            counts[1] += right[1];
+            counts[2] += right[2];
+            return counts;
+        }
+    }
+}
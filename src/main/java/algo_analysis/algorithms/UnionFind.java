@@ -2,6 +2,7 @@ package algo_analysis.algorithms;
 
 import algo_analysis.entity.Vertex;
 import algo_analysis.util.PerformanceMetrics;
+import algo_analysis.util.PerformanceMetrics.Counter;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -26,14 +27,27 @@ public class UnionFind<T> {
     }
 
     public Vertex<T> find(Vertex<T> vertex, PerformanceMetrics metrics) {
-        if (metrics != null) {
-            metrics.incrementOperations();
+        // walk up to the root
+        Vertex<T> root = vertex;
+        int steps = 0;
+        Vertex<T> next;
+        while (!(next = parent.get(root)).equals(root)) {
+            root = next;
+            steps++;
+        }
+
+        // path compression: second pass points every node on the path at the root
+        while (!vertex.equals(root)) {
+            next = parent.get(vertex);
+            parent.put(vertex, root);
+            vertex = next;
         }
 
-        if (!parent.get(vertex).equals(vertex)) {
-            parent.put(vertex, find(parent.get(vertex), metrics));
+        if (metrics != null) {
+            metrics.increment(Counter.FINDS);
+            metrics.add(Counter.FIND_STEPS, steps);
         }
-        return parent.get(vertex);
+        return root;
     }
 
 //    find without metrics
@@ -43,7 +57,7 @@ public class UnionFind<T> {
 
     public boolean union(Vertex<T> v1, Vertex<T> v2, PerformanceMetrics metrics) {
         if (metrics != null) {
-            metrics.incrementOperations(); // Count union operation
+            metrics.increment(Counter.UNIONS);
         }
 
         Vertex<T> root1 = find(v1, metrics);
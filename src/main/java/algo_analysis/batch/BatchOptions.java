@@ -0,0 +1,186 @@
+package algo_analysis.batch;
+
+import algo_analysis.algorithms.IndexPriorityQueue;
+import algo_analysis.algorithms.MSTCostModel;
+import algo_analysis.algorithms.PrimAlgorithm;
+import algo_analysis.cache.ResultCache;
+
+/**
+ * Command line options for a batch run
+ * --input FILE, --output FILE, --threads N, --virtual-threads, --max-in-flight N, --convert FILE, --forest,
+ * --auto, --cost-model FILE, --calibrate FILE, --heap TYPE, --trials N, --warmup N,
+ * --cache N, --cache-mb N, --cache-file FILE, --forest-parallel, --prim-strategy STRATEGY
+ */
+public class BatchOptions {
+    public String inputPath = "input.json";
+    public String outputPath = "output.json";
+    public int threads = Runtime.getRuntime().availableProcessors();
+    public boolean virtualThreads = false;
+    public int maxInFlight = 0; // 0 means 2 * threads
+    public String convertPath = null; // convert input to a binary graph file instead of running
+    public boolean forest = false; // spanning forest for every graph, not only disconnected ones
+    public boolean forestParallel = false; // solve the forest's components on the common fork-join pool
+    public boolean auto = false; // run only the engine the selector picks
+    public String costModelPath = null; // calibrated cost model for the selector, defaults if null
+    public String calibratePath = null; // calibrate the selector and save the model instead of running
+    public IndexPriorityQueue.Type heapType = null; // heap for heap Prim, adds a prim_heap section if set
+    public PrimAlgorithm.Strategy primStrategy = PrimAlgorithm.Strategy.EDGE_SCAN; // Prim for the prim section
+    public int trials = 0; // measured runs per algorithm, 0 means a single run without trial statistics
+    public int warmup = 5; // discarded runs before the trials, only used with --trials
+    public int cacheEntries = 0; // result cache size, 0 means no cache unless --cache-file is given
+    public int cacheMb = 256; // upper bound on the estimated heap size of the cache
+    public String cacheFile = null; // cache loaded before and saved after the run
+
+    public static BatchOptions parse(String[] args) {
+        BatchOptions options = new BatchOptions();
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--input":
+                    options.inputPath = value(args, ++i);
+                    break;
+                case "--output":
+                    options.outputPath = value(args, ++i);
+                    break;
+                case "--threads":
+                    options.threads = positiveInt(args, ++i);
+                    break;
+                case "--virtual-threads":
+                    options.virtualThreads = true;
+                    break;
+                case "--convert":
+                    options.convertPath = value(args, ++i);
+                    break;
+                case "--forest":
+                    options.forest = true;
+                    break;
+                case "--forest-parallel":
+                    options.forestParallel = true;
+                    break;
+                case "--auto":
+                    options.auto = true;
+                    break;
+                case "--cost-model":
+                    options.costModelPath = value(args, ++i);
+                    break;
+                case "--calibrate":
+                    options.calibratePath = value(args, ++i);
+                    break;
+                case "--heap":
+                    options.heapType = IndexPriorityQueue.Type.parse(value(args, ++i));
+                    break;
+                case "--prim-strategy":
+                    options.primStrategy = PrimAlgorithm.Strategy.parse(value(args, ++i));
+                    break;
+                case "--trials":
+                    options.trials = positiveInt(args, ++i);
+                    break;
+                case "--warmup":
+                    options.warmup = nonNegativeInt(args, ++i);
+                    break;
+                case "--cache":
+                    options.cacheEntries = positiveInt(args, ++i);
+                    break;
+                case "--cache-mb":
+                    options.cacheMb = positiveInt(args, ++i);
+                    break;
+                case "--cache-file":
+                    options.cacheFile = value(args, ++i);
+                    break;
+                case "--max-in-flight":
+                    options.maxInFlight = positiveInt(args, ++i);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+
+        return options;
+    }
+
+//    null unless --trials, one run per algorithm then
+    public TrialRunner createTrialRunner() {
+        return trials > 0 ? new TrialRunner(warmup, trials) : null;
+    }
+
+//    null unless --cache or --cache-file, a cache file alone gets 1024 entries
+    public ResultCache createCache() {
+        if (cacheEntries == 0 && cacheFile == null) {
+            return null;
+        }
+        return new ResultCache(cacheEntries > 0 ? cacheEntries : 1024, cacheMb * 1024L * 1024L);
+    }
+
+//    options that change what is computed for a graph, part of every cache key,
+//    model is the selector's cost model with --auto, keyed by its coefficients so a recalibrated file misses
+    public String cacheTag(MSTCostModel model) {
+        return "auto=" + auto + (auto && model != null ? ":" + model.fingerprint() : "")
+                + ",heap=" + (heapType != null ? heapType.label() : "none")
+                + ",prim=" + primStrategy.label()
+                + ",forest=" + forest
+                + ",trials=" + trials + (trials > 0 ? ":" + warmup : "");
+    }
+
+//    one graph at a time, JVM wide GC and heap figures then belong to a single run
+    public boolean isSequential() {
+        if (virtualThreads) {
+            return getMaxInFlight() == 1;
+        }
+        return threads == 1 || getMaxInFlight() == 1;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight > 0 ? maxInFlight : 2 * threads;
+    }
+
+//    falls back to platform threads when virtual threads are not available on this JVM
+    public BatchRunner createRunner() {
+        if (virtualThreads) {
+            try {
+                return BatchRunner.virtualThreads(getMaxInFlight());
+            } catch (UnsupportedOperationException e) {
+                System.err.println("Warning: " + e.getMessage() + " Using " + threads + " platform threads.");
+            }
+        }
+        return BatchRunner.platformThreads(threads, getMaxInFlight());
+    }
+
+    public static String usage() {
+        return "Usage: Main [--input FILE] [--output FILE] [--threads N] [--virtual-threads] [--max-in-flight N] [--convert FILE] [--forest] [--forest-parallel]"
+                + " [--auto] [--cost-model FILE] [--calibrate FILE] [--heap binary|four_ary|pairing|radix]"
+                + " [--prim-strategy scan|lazy|eager]"
+                + " [--trials N] [--warmup N] [--cache N] [--cache-mb N] [--cache-file FILE]";
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+
+    private static int positiveInt(String[] args, int i) {
+        int parsed = intValue(args, i);
+        if (parsed < 1) {
+            throw new IllegalArgumentException(args[i - 1] + " must be positive: " + args[i]);
+        }
+        return parsed;
+    }
+
+    private static int nonNegativeInt(String[] args, int i) {
+        int parsed = intValue(args, i);
+        if (parsed < 0) {
+            throw new IllegalArgumentException(args[i - 1] + " cannot be negative: " + args[i]);
+        }
+        return parsed;
+    }
+
+    private static int intValue(String[] args, int i) {
+        String raw = value(args, i);
+        try {
+            return Integer.parseInt(raw);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(args[i - 1] + " expects a number: " + raw);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package algo_analysis.batch;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Runs independent tasks (one per input graph) concurrently on an executor
+ * Inputs are pulled lazily and at most maxInFlight tasks are pending at once,
+ * results are handed to the sink in input order
+ */
+public class BatchRunner implements AutoCloseable {
+    private final ExecutorService executor;
+    private final int maxInFlight;
+
+    public BatchRunner(ExecutorService executor, int maxInFlight) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null.");
+        }
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("At least one task must be allowed in flight.");
+        }
+        this.executor = executor;
+        this.maxInFlight = maxInFlight;
+    }
+
+//    fixed pool of platform threads
+    public static BatchRunner platformThreads(int threads, int maxInFlight) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Thread count must be positive.");
+        }
+        return new BatchRunner(Executors.newFixedThreadPool(threads), maxInFlight);
+    }
+
+//    one virtual thread per task, only available when running on Java 21+
+    public static BatchRunner virtualThreads(int maxInFlight) {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            return new BatchRunner(executor, maxInFlight);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer.", e);
+        }
+    }
+
+    /**
+     * Apply task to every input and pass the results to sink in input order
+     * The first failing task stops the batch and its exception is rethrown
+     */
+    public <I, R> void run(Iterator<I> inputs, Function<I, R> task, Consumer<R> sink)
+            throws InterruptedException {
+        Deque<Future<R>> pending = new ArrayDeque<>();
+
+        try {
+            while (inputs.hasNext()) {
+                I input = inputs.next();
+                pending.addLast(executor.submit(() -> task.apply(input)));
+
+                if (pending.size() >= maxInFlight) {
+                    sink.accept(await(pending.removeFirst()));
+                }
+            }
+
+            while (!pending.isEmpty()) {
+                sink.accept(await(pending.removeFirst()));
+            }
+        } finally {
+            for (Future<R> future : pending) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private static <R> R await(Future<R> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+//    an interrupt while waiting cancels the remaining tasks and is passed on through the interrupt flag
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
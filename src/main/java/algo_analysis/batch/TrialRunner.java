@@ -0,0 +1,93 @@
+package algo_analysis.batch;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.TrialStats;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Runs an algorithm several times on the same input and summarizes its execution times
+ * The warm-up runs let the JIT compile the hot loops first, they are timed but discarded.
+ * The result of the last measured trial is returned with its trial statistics attached and
+ * execution_time_ms replaced by the median, edges, counters and memory readings are that
+ * trial's own.
+ */
+public class TrialRunner {
+    private final int warmup;
+    private final int trials;
+
+    public TrialRunner(int warmup, int trials) {
+        if (warmup < 0) {
+            throw new IllegalArgumentException("Warm-up iterations cannot be negative.");
+        }
+        if (trials < 1) {
+            throw new IllegalArgumentException("At least one trial is needed.");
+        }
+        this.warmup = warmup;
+        this.trials = trials;
+    }
+
+    public int getWarmup() {
+        return warmup;
+    }
+
+    public int getTrials() {
+        return trials;
+    }
+
+    public AlgorithmResult run(Supplier<AlgorithmResult> algorithm) {
+        for (int i = 0; i < warmup; i++) {
+            algorithm.get();
+        }
+
+        double[] timesMs = new double[trials];
+        AlgorithmResult result = null;
+        for (int i = 0; i < trials; i++) {
+            result = algorithm.get();
+            timesMs[i] = result.executionTimeMs;
+        }
+
+        result.trialStats = summarize(timesMs, warmup);
+        result.executionTimeMs = result.trialStats.medianMs;
+        return result;
+    }
+
+//    order statistics use the nearest rank, the median averages the two middle values
+    public static TrialStats summarize(double[] timesMs, int warmup) {
+        if (timesMs.length == 0) {
+            throw new IllegalArgumentException("At least one trial is needed.");
+        }
+        double[] sorted = timesMs.clone();
+        Arrays.sort(sorted);
+        int n = sorted.length;
+
+        double sum = 0.0;
+        for (double time : sorted) {
+            sum += time;
+        }
+        double mean = sum / n;
+        double squares = 0.0;
+        for (double time : sorted) {
+            squares += (time - mean) * (time - mean);
+        }
+
+        TrialStats stats = new TrialStats();
+        stats.warmup = warmup;
+        stats.trials = n;
+        stats.minMs = sorted[0];
+        stats.medianMs = n % 2 == 1 ? sorted[n / 2] : (sorted[n / 2 - 1] + sorted[n / 2]) / 2.0;
+        stats.p90Ms = percentile(sorted, 90);
+        stats.p99Ms = percentile(sorted, 99);
+        stats.meanMs = mean;
+        // sample standard deviation, 0 for a single trial
+        stats.stddevMs = n > 1 ? Math.sqrt(squares / (n - 1)) : 0.0;
+        stats.opsPerSec = mean > 0 ? 1000.0 / mean : 0.0;
+        return stats;
+    }
+
+    static double percentile(double[] sorted, int percent) {
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+}
@@ -0,0 +1,109 @@
+package algo_analysis.cache;
+
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * SHA-256 of a canonical form of a GraphData, the same graph always gets the same fingerprint
+ * The graph id is ignored, nodes are sorted, every edge is written with its smaller endpoint
+ * first and edges are sorted by (from, to, weight), so reordered or re-numbered submissions of
+ * one graph share a fingerprint. Prim starts at the first node and on a disconnected graph its
+ * result depends on that node, so the first node is part of the fingerprint as well.
+ */
+public final class GraphFingerprint {
+    private static final int BUFFER_SIZE = 1 << 14;
+
+    private GraphFingerprint() {
+    }
+
+//    lowercase hex of the digest, 64 characters
+    public static String of(GraphData data) {
+        MessageDigest digest = sha256();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+
+        List<String> nodes = new ArrayList<>(data.nodes);
+        Collections.sort(nodes);
+        putInt(digest, buffer, nodes.size());
+        putString(digest, buffer, data.nodes.isEmpty() ? "" : data.nodes.get(0));
+        for (String node : nodes) {
+            putString(digest, buffer, node);
+        }
+
+        List<EdgeInfo> edges = new ArrayList<>(data.edges.size());
+        for (EdgeInfo edge : data.edges) {
+            edges.add(edge.from.compareTo(edge.to) <= 0 ? edge : new EdgeInfo(edge.to, edge.from, edge.weight));
+        }
+        edges.sort((a, b) -> {
+            int order = a.from.compareTo(b.from);
+            if (order == 0) {
+                order = a.to.compareTo(b.to);
+            }
+            return order != 0 ? order : Double.compare(a.weight, b.weight);
+        });
+        putInt(digest, buffer, edges.size());
+        for (EdgeInfo edge : edges) {
+            putString(digest, buffer, edge.from);
+            putString(digest, buffer, edge.to);
+            ensure(digest, buffer, Double.BYTES);
+            buffer.putDouble(edge.weight);
+        }
+
+        flush(digest, buffer);
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform has to provide SHA-256
+            throw new IllegalStateException("SHA-256 is not available.", e);
+        }
+    }
+
+//    strings are length prefixed so ("ab", "c") and ("a", "bc") differ
+    private static void putString(MessageDigest digest, ByteBuffer buffer, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(digest, buffer, bytes.length);
+        if (bytes.length > buffer.capacity()) {
+            flush(digest, buffer);
+            digest.update(bytes);
+            return;
+        }
+        ensure(digest, buffer, bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static void putInt(MessageDigest digest, ByteBuffer buffer, int value) {
+        ensure(digest, buffer, Integer.BYTES);
+        buffer.putInt(value);
+    }
+
+    private static void ensure(MessageDigest digest, ByteBuffer buffer, int bytes) {
+        if (buffer.remaining() < bytes) {
+            flush(digest, buffer);
+        }
+    }
+
+    private static void flush(MessageDigest digest, ByteBuffer buffer) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
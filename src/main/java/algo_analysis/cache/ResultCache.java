@@ -0,0 +1,183 @@
+package algo_analysis.cache;
+
+import algo_analysis.dto.GraphResult;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU cache of GraphResults keyed by GraphFingerprint
+ * Both the number of entries and their estimated heap size are bounded, the least recently
+ * used entries are evicted until both fit. A hit returns a copy carrying the requested graph
+ * id, the algorithm results themselves are shared and must not be modified. The cache can be
+ * saved to a file and loaded in a later run, entries keep their LRU order.
+ *
+ * A hit returns the result computed for the first submission of the graph. Edge order and
+ * orientation, operation counts and times are that submission's, the MST cost is the same.
+ * All methods are synchronized, graphs processed concurrently share one cache.
+ */
+public class ResultCache {
+    public static final int MAGIC = 0x4D535443; // "MSTC"
+    public static final int VERSION = 1;
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ResultCache(int maxEntries, long maxBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Cache must hold at least one entry.");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("Cache size must be positive.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+//    cached result with graphId as its id, null and a miss when the key is unknown
+    public synchronized GraphResult get(String key, int graphId) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return copy(entry.result, graphId);
+    }
+
+//    a result larger than the whole cache is not stored
+    public synchronized void put(String key, GraphResult result) {
+        long size = ResultCodec.estimateBytes(result);
+        Entry previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= previous.bytes;
+        }
+        if (size > maxBytes) {
+            return;
+        }
+        entries.put(key, new Entry(result, size));
+        bytes += size;
+        evict();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getBytes() {
+        return bytes;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+//    counters for the output file, in a fixed order
+    public synchronized Map<String, Long> stats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", hits);
+        stats.put("misses", misses);
+        stats.put("evictions", evictions);
+        stats.put("entries", (long) entries.size());
+        stats.put("bytes", bytes);
+        return stats;
+    }
+
+    /**
+     * Load entries saved by save(), least recently used first so the order survives
+     * Entries beyond the bounds are evicted as they are loaded, counters start at 0
+     */
+    public synchronized void load(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a result cache file: " + path);
+            }
+            int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported result cache version " + version + ": " + path);
+            }
+            int count = ResultCodec.readCount(in);
+            for (int i = 0; i < count; i++) {
+                String key = ResultCodec.readString(in);
+                put(key, ResultCodec.read(in));
+            }
+        }
+        evictions = 0;
+    }
+
+//    written to a temporary file first, a failed save leaves the previous file intact
+    public synchronized void save(Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(entries.size());
+                for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+                    ResultCodec.writeString(out, entry.getKey());
+                    ResultCodec.write(out, entry.getValue().result);
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while (entries.size() > maxEntries || bytes > maxBytes) {
+            bytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private static GraphResult copy(GraphResult result, int graphId) {
+        GraphResult copy = new GraphResult(graphId, result.vertices, result.edges);
+        copy.components = result.components;
+        copy.largestComponent = result.largestComponent;
+        copy.primResult = result.primResult;
+        copy.kruskalResult = result.kruskalResult;
+        copy.boruvkaResult = result.boruvkaResult;
+        copy.forestResult = result.forestResult;
+        copy.autoEngine = result.autoEngine;
+        copy.autoResult = result.autoResult;
+        copy.primHeap = result.primHeap;
+        copy.primHeapResult = result.primHeapResult;
+        return copy;
+    }
+
+    private static final class Entry {
+        final GraphResult result;
+        final long bytes;
+
+        Entry(GraphResult result, long bytes) {
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package algo_analysis.cache;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.ComponentResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphResult;
+import algo_analysis.dto.TrialStats;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of GraphResults for the on-disk cache, and their approximate heap size
+ * Nullable values are preceded by a presence flag, strings are length prefixed UTF-8.
+ * The cache status of a result is not stored, it belongs to the run that produced it.
+ */
+final class ResultCodec {
+    // rough heap cost of one EdgeInfo with its two short strings, and of an empty AlgorithmResult
+    private static final long EDGE_BYTES = 120;
+    private static final long RESULT_BYTES = 640;
+
+    private ResultCodec() {
+    }
+
+    static long estimateBytes(GraphResult result) {
+        long bytes = 128;
+        for (AlgorithmResult section : sections(result)) {
+            if (section == null) {
+                continue;
+            }
+            bytes += RESULT_BYTES + EDGE_BYTES * section.mstEdges.size();
+            for (ComponentResult component : section.components) {
+                bytes += 64 + EDGE_BYTES * component.mstEdges.size();
+            }
+        }
+        return bytes;
+    }
+
+    static void write(DataOutputStream out, GraphResult result) throws IOException {
+        out.writeInt(result.graphId);
+        out.writeInt(result.vertices);
+        out.writeInt(result.edges);
+        out.writeInt(result.components);
+        out.writeInt(result.largestComponent);
+        writeNullableString(out, result.autoEngine);
+        writeNullableString(out, result.primHeap);
+        for (AlgorithmResult section : sections(result)) {
+            out.writeBoolean(section != null);
+            if (section != null) {
+                writeResult(out, section);
+            }
+        }
+    }
+
+    static GraphResult read(DataInputStream in) throws IOException {
+        GraphResult result = new GraphResult(in.readInt(), in.readInt(), in.readInt());
+        result.components = in.readInt();
+        result.largestComponent = in.readInt();
+        result.autoEngine = readNullableString(in);
+        result.primHeap = readNullableString(in);
+        // same order as sections()
+        result.primResult = readNullableResult(in);
+        result.primHeapResult = readNullableResult(in);
+        result.kruskalResult = readNullableResult(in);
+        result.boruvkaResult = readNullableResult(in);
+        result.autoResult = readNullableResult(in);
+        result.forestResult = readNullableResult(in);
+        return result;
+    }
+
+    private static AlgorithmResult[] sections(GraphResult result) {
+        return new AlgorithmResult[]{
+                result.primResult, result.primHeapResult, result.kruskalResult,
+                result.boruvkaResult, result.autoResult, result.forestResult
+        };
+    }
+
+    private static void writeResult(DataOutputStream out, AlgorithmResult result) throws IOException {
+        writeEdges(out, result.mstEdges);
+        out.writeDouble(result.totalCost);
+        out.writeLong(result.operationsCount);
+        out.writeDouble(result.executionTimeMs);
+        out.writeLong(result.allocatedBytes);
+        out.writeLong(result.gcCount);
+        out.writeLong(result.gcTimeMs);
+        out.writeLong(result.peakHeapBytes);
+
+        out.writeInt(result.operationBreakdown.size());
+        for (Map.Entry<String, Long> entry : result.operationBreakdown.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeLong(entry.getValue());
+        }
+        out.writeInt(result.phaseTimesMs.size());
+        for (Map.Entry<String, Double> entry : result.phaseTimesMs.entrySet()) {
+            writeString(out, entry.getKey());
+            out.writeDouble(entry.getValue());
+        }
+
+        out.writeInt(result.components.size());
+        for (ComponentResult component : result.components) {
+            out.writeInt(component.vertices);
+            out.writeDouble(component.totalCost);
+            writeEdges(out, component.mstEdges);
+        }
+
+        TrialStats stats = result.trialStats;
+        out.writeBoolean(stats != null);
+        if (stats != null) {
+            out.writeInt(stats.warmup);
+            out.writeInt(stats.trials);
+            out.writeDouble(stats.minMs);
+            out.writeDouble(stats.medianMs);
+            out.writeDouble(stats.p90Ms);
+            out.writeDouble(stats.p99Ms);
+            out.writeDouble(stats.meanMs);
+            out.writeDouble(stats.stddevMs);
+            out.writeDouble(stats.opsPerSec);
+        }
+    }
+
+    private static AlgorithmResult readNullableResult(DataInputStream in) throws IOException {
+        if (!in.readBoolean()) {
+            return null;
+        }
+        AlgorithmResult result = new AlgorithmResult();
+        result.mstEdges = readEdges(in);
+        result.totalCost = in.readDouble();
+        result.operationsCount = in.readLong();
+        result.executionTimeMs = in.readDouble();
+        result.allocatedBytes = in.readLong();
+        result.gcCount = in.readLong();
+        result.gcTimeMs = in.readLong();
+        result.peakHeapBytes = in.readLong();
+
+        int counters = readCount(in);
+        for (int i = 0; i < counters; i++) {
+            result.operationBreakdown.put(readString(in), in.readLong());
+        }
+        int phases = readCount(in);
+        for (int i = 0; i < phases; i++) {
+            result.phaseTimesMs.put(readString(in), in.readDouble());
+        }
+
+        int components = readCount(in);
+        for (int i = 0; i < components; i++) {
+            int vertices = in.readInt();
+            double totalCost = in.readDouble();
+            result.components.add(new ComponentResult(vertices, totalCost, readEdges(in)));
+        }
+
+        if (in.readBoolean()) {
+            TrialStats stats = new TrialStats();
+            stats.warmup = in.readInt();
+            stats.trials = in.readInt();
+            stats.minMs = in.readDouble();
+            stats.medianMs = in.readDouble();
+            stats.p90Ms = in.readDouble();
+            stats.p99Ms = in.readDouble();
+            stats.meanMs = in.readDouble();
+            stats.stddevMs = in.readDouble();
+            stats.opsPerSec = in.readDouble();
+            result.trialStats = stats;
+        }
+        return result;
+    }
+
+    private static void writeEdges(DataOutputStream out, List<EdgeInfo> edges) throws IOException {
+        out.writeInt(edges.size());
+        for (EdgeInfo edge : edges) {
+            writeString(out, edge.from);
+            writeString(out, edge.to);
+            out.writeDouble(edge.weight);
+        }
+    }
+
+    private static List<EdgeInfo> readEdges(DataInputStream in) throws IOException {
+        int count = readCount(in);
+        List<EdgeInfo> edges = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            edges.add(new EdgeInfo(readString(in), readString(in), in.readDouble()));
+        }
+        return edges;
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readCount(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+//    a negative count can only come from a damaged file
+    static int readCount(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Corrupt result cache file.");
+        }
+        return count;
+    }
+}
@@ -1,15 +1,32 @@
 package algo_analysis.dto;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class AlgorithmResult {
     public List<EdgeInfo> mstEdges;
     public double totalCost;
-    public int operationsCount;
+    public long operationsCount;
     public double executionTimeMs;
+    // allocation and GC during the run, -1 when the JVM can't report it
+    public long allocatedBytes;
+    public long gcCount;
+    public long gcTimeMs;
+    public long peakHeapBytes;
+    // operations per counter category and time per phase, empty when not recorded
+    public Map<String, Long> operationBreakdown;
+    public Map<String, Double> phaseTimesMs;
+    // one tree per connected component, only filled by the spanning forest mode
+    public List<ComponentResult> components;
+    // repeated trial timings, only filled in benchmark mode
+    public TrialStats trialStats;
 
     public AlgorithmResult() {
         this.mstEdges = new ArrayList<>();
+        this.operationBreakdown = new LinkedHashMap<>();
+        this.phaseTimesMs = new LinkedHashMap<>();
+        this.components = new ArrayList<>();
     }
 }
@@ -0,0 +1,20 @@
+package algo_analysis.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ComponentResult {
+    public int vertices;
+    public double totalCost;
+    public List<EdgeInfo> mstEdges;
+
+    public ComponentResult() {
+        this.mstEdges = new ArrayList<>();
+    }
+
+    public ComponentResult(int vertices, double totalCost, List<EdgeInfo> mstEdges) {
+        this.vertices = vertices;
+        this.totalCost = totalCost;
+        this.mstEdges = mstEdges;
+    }
+}
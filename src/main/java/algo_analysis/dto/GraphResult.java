@@ -4,8 +4,18 @@ public class GraphResult {
     public int graphId;
     public int vertices;
     public int edges;
+    public int components;
+    public int largestComponent;
     public AlgorithmResult primResult;
     public AlgorithmResult kruskalResult;
+    public AlgorithmResult boruvkaResult;
+    public AlgorithmResult forestResult;
+    public String autoEngine;
+    public AlgorithmResult autoResult;
+    public String primHeap;
+    public AlgorithmResult primHeapResult;
+    // "hit" or "miss" when the result cache is on, null otherwise
+    public String cacheStatus;
 
     public GraphResult(int graphId, int vertices, int edges) {
         this.graphId = graphId;
@@ -0,0 +1,15 @@
+package algo_analysis.dto;
+
+public class TrialStats {
+    public int warmup;
+    public int trials;
+    // over the measured trials, warm-up runs are not included
+    public double minMs;
+    public double medianMs;
+    public double p90Ms;
+    public double p99Ms;
+    public double meanMs;
+    public double stddevMs;
+    // full algorithm runs per second at the mean time
+    public double opsPerSec;
+}
@@ -0,0 +1,196 @@
+package algo_analysis.entity;
+
+import java.util.*;
+
+/**
+ * Immutable compressed sparse row (CSR) snapshot of an undirected weighted graph
+ * Vertices are numbered 0..V-1, every edge is stored once in the edge arrays
+ * and twice (once per endpoint) in the arc arrays
+ */
+public final class CsrGraph<T> {
+    private final List<T> vertexData;
+    private final Map<T, Integer> vertexIds;
+
+    // arcs of vertex v are offsets[v] .. offsets[v + 1] - 1
+    private final int[] offsets;
+    private final int[] targets;
+    private final double[] weights;
+    private final int[] arcEdges;
+
+    private final int[] edgeSources;
+    private final int[] edgeTargets;
+    private final double[] edgeWeights;
+
+    private CsrGraph(List<T> vertexData, Map<T, Integer> vertexIds,
+                     int[] edgeSources, int[] edgeTargets, double[] edgeWeights) {
+        this.vertexData = vertexData;
+        this.vertexIds = vertexIds;
+        this.edgeSources = edgeSources;
+        this.edgeTargets = edgeTargets;
+        this.edgeWeights = edgeWeights;
+
+        int n = vertexData.size();
+        int m = edgeSources.length;
+
+        this.offsets = new int[n + 1];
+        for (int e = 0; e < m; e++) {
+            offsets[edgeSources[e] + 1]++;
+            offsets[edgeTargets[e] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+
+        this.targets = new int[2 * m];
+        this.weights = new double[2 * m];
+        this.arcEdges = new int[2 * m];
+
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int e = 0; e < m; e++) {
+            int u = edgeSources[e];
+            int v = edgeTargets[e];
+
+            int arc = next[u]++;
+            targets[arc] = v;
+            weights[arc] = edgeWeights[e];
+            arcEdges[arc] = e;
+
+            arc = next[v]++;
+            targets[arc] = u;
+            weights[arc] = edgeWeights[e];
+            arcEdges[arc] = e;
+        }
+    }
+
+//    snapshot of an existing Graph
+    public static <T> CsrGraph<T> from(Graph<T> graph) {
+        List<T> vertexData = new ArrayList<>(graph.getVertexCount());
+        Map<T, Integer> vertexIds = new HashMap<>();
+        for (Vertex<T> vertex : graph.getVerticesView()) {
+            vertexIds.put(vertex.getData(), vertexData.size());
+            vertexData.add(vertex.getData());
+        }
+
+        Set<Edge<T>> edges = graph.getEdgesView();
+        int[] sources = new int[edges.size()];
+        int[] targets = new int[edges.size()];
+        double[] weights = new double[edges.size()];
+
+        int e = 0;
+        for (Edge<T> edge : edges) {
+            sources[e] = vertexIds.get(edge.getSource().getData());
+            targets[e] = vertexIds.get(edge.getTarget().getData());
+            weights[e] = edge.getWeight();
+            e++;
+        }
+
+        return new CsrGraph<>(vertexData, vertexIds, sources, targets, weights);
+    }
+
+//    build from vertex data and parallel edge arrays, edge endpoints are vertex ids
+//    the arrays are taken over without copying, callers must not modify them afterwards
+    public static <T> CsrGraph<T> of(List<T> vertexData, int[] sources, int[] targets, double[] weights) {
+        if (sources.length != targets.length || sources.length != weights.length) {
+            throw new IllegalArgumentException("Edge arrays must have the same length.");
+        }
+
+        List<T> data = new ArrayList<>(vertexData);
+        Map<T, Integer> vertexIds = new HashMap<>();
+        for (T value : data) {
+            if (vertexIds.putIfAbsent(value, vertexIds.size()) != null) {
+                throw new IllegalArgumentException("Vertex already exists.");
+            }
+        }
+        for (int e = 0; e < sources.length; e++) {
+            if (sources[e] < 0 || sources[e] >= data.size() || targets[e] < 0 || targets[e] >= data.size()) {
+                throw new IllegalArgumentException("One or both vertices don't exist.");
+            }
+        }
+
+        return new CsrGraph<>(data, vertexIds, sources, targets, weights);
+    }
+
+    public int getVertexCount() {
+        return vertexData.size();
+    }
+
+    public int getEdgeCount() {
+        return edgeSources.length;
+    }
+
+    public T getVertexData(int vertex) {
+        return vertexData.get(vertex);
+    }
+
+//    vertex id for a data value, -1 if absent
+    public int getVertexId(T data) {
+        Integer id = vertexIds.get(data);
+        return id == null ? -1 : id;
+    }
+
+    public int degree(int vertex) {
+        return offsets[vertex + 1] - offsets[vertex];
+    }
+
+    // == arc access ==
+
+    public int arcStart(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int arcEnd(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int arcTarget(int arc) {
+        return targets[arc];
+    }
+
+    public double arcWeight(int arc) {
+        return weights[arc];
+    }
+
+    public int arcEdge(int arc) {
+        return arcEdges[arc];
+    }
+
+    // == edge access ==
+
+    public int edgeSource(int edge) {
+        return edgeSources[edge];
+    }
+
+    public int edgeTarget(int edge) {
+        return edgeTargets[edge];
+    }
+
+    public double edgeWeight(int edge) {
+        return edgeWeights[edge];
+    }
+
+//    check if the graph is connected using bfs
+    public boolean isConnected() {
+        int n = getVertexCount();
+        if (n == 0) return true;
+
+        BitSet visited = new BitSet(n);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = 0;
+        visited.set(0);
+        while (head < tail) {
+            int v = queue[head++];
+            for (int arc = offsets[v]; arc < offsets[v + 1]; arc++) {
+                int w = targets[arc];
+                if (!visited.get(w)) {
+                    visited.set(w);
+                    queue[tail++] = w;
+                }
+            }
+        }
+
+        return tail == n;
+    }
+}
@@ -0,0 +1,147 @@
+package algo_analysis.entity;
+
+import java.util.*;
+
+/**
+ * Immutable adjacency matrix of an undirected weighted graph for dense and complete graphs
+ * Weights live in one row-major double[] of V * V entries, a missing edge is +infinity.
+ * Rows are contiguous, so a scan over the neighbours of one vertex is a linear array read.
+ * Memory is 8 * V^2 bytes whatever the edge count, 20k vertices take 3.2 GB.
+ */
+public final class DenseGraph<T> {
+    // largest V with V * V still addressable by an int index
+    public static final int MAX_VERTICES = 46_340;
+
+    private final List<T> vertexData;
+    private final double[] weights;
+    private final int edgeCount;
+
+    private DenseGraph(List<T> vertexData, double[] weights, int edgeCount) {
+        this.vertexData = vertexData;
+        this.weights = weights;
+        this.edgeCount = edgeCount;
+    }
+
+//    matrix for vertexData.size() vertices, edges are added through the builder
+    public static <T> Builder<T> builder(List<T> vertexData) {
+        return new Builder<>(vertexData);
+    }
+
+    public static <T> DenseGraph<T> from(Graph<T> graph) {
+        List<T> vertexData = new ArrayList<>(graph.getVertexCount());
+        Map<T, Integer> vertexIds = new HashMap<>();
+        for (Vertex<T> vertex : graph.getVerticesView()) {
+            vertexIds.put(vertex.getData(), vertexData.size());
+            vertexData.add(vertex.getData());
+        }
+
+        Builder<T> builder = new Builder<>(vertexData);
+        for (Edge<T> edge : graph.getEdgesView()) {
+            builder.edge(vertexIds.get(edge.getSource().getData()),
+                    vertexIds.get(edge.getTarget().getData()),
+                    edge.getWeight());
+        }
+        return builder.build();
+    }
+
+    public static <T> DenseGraph<T> from(CsrGraph<T> graph) {
+        List<T> vertexData = new ArrayList<>(graph.getVertexCount());
+        for (int v = 0; v < graph.getVertexCount(); v++) {
+            vertexData.add(graph.getVertexData(v));
+        }
+
+        Builder<T> builder = new Builder<>(vertexData);
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            builder.edge(graph.edgeSource(e), graph.edgeTarget(e), graph.edgeWeight(e));
+        }
+        return builder.build();
+    }
+
+//    bytes the weight matrix of a graph with this many vertices takes
+    public static long matrixBytes(int vertices) {
+        return (long) vertices * vertices * Double.BYTES;
+    }
+
+    public int getVertexCount() {
+        return vertexData.size();
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public T getVertexData(int vertex) {
+        return vertexData.get(vertex);
+    }
+
+//    +infinity when there is no edge
+    public double weight(int source, int target) {
+        return weights[source * vertexData.size() + target];
+    }
+
+    public boolean hasEdge(int source, int target) {
+        return weight(source, target) != Double.POSITIVE_INFINITY;
+    }
+
+//    index of weight(vertex, 0), row entries follow at consecutive indices
+    public int rowStart(int vertex) {
+        return vertex * vertexData.size();
+    }
+
+    public double weightAt(int index) {
+        return weights[index];
+    }
+
+    /**
+     * Fills the matrix edge by edge, of parallel edges only the lightest is kept and
+     * self loops are dropped. edge(int, int, double) matches EdgeSink, so a generator
+     * can stream straight into it.
+     */
+    public static final class Builder<T> {
+        private final List<T> vertexData;
+        private double[] weights;
+        private int edgeCount;
+
+        private Builder(List<T> vertexData) {
+            int n = vertexData.size();
+            if (n > MAX_VERTICES) {
+                throw new IllegalArgumentException("Too many vertices for a dense matrix: " + n);
+            }
+            this.vertexData = new ArrayList<>(vertexData);
+            this.weights = new double[n * n];
+            Arrays.fill(weights, Double.POSITIVE_INFINITY);
+        }
+
+        public void edge(int source, int target, double weight) {
+            if (weights == null) {
+                throw new IllegalStateException("Graph already built.");
+            }
+            int n = vertexData.size();
+            if (source < 0 || source >= n || target < 0 || target >= n) {
+                throw new IllegalArgumentException("One or both vertices don't exist.");
+            }
+            if (source == target) {
+                return;
+            }
+
+            double current = weights[source * n + target];
+            if (current == Double.POSITIVE_INFINITY) {
+                edgeCount++;
+            } else if (current <= weight) {
+                return;
+            }
+            weights[source * n + target] = weight;
+            weights[target * n + source] = weight;
+        }
+
+//        the builder hands its matrix over and cannot be used afterwards
+        public DenseGraph<T> build() {
+            if (weights == null) {
+                throw new IllegalStateException("Graph already built.");
+            }
+            DenseGraph<T> graph = new DenseGraph<>(vertexData, weights, edgeCount);
+            weights = null;
+            return graph;
+        }
+    }
+}
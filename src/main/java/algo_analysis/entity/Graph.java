@@ -1,16 +1,32 @@
 package algo_analysis.entity;
 
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.ObjDoubleConsumer;
 
+/**
+ * Undirected weighted graph, at most one edge per vertex pair
+ * Every vertex maps its neighbours to the incident edge, so edge lookup, adjacency
+ * checks and edge removal are hash lookups and incident edges come with their weights.
+ * Vertices are also indexed by their data, so removing a vertex costs O(degree) and
+ * lookup by data is a single hash hit. Vertex data must not change while in the graph.
+ */
 public class Graph<T> {
-    private HashMap<Vertex<T>, Set<Vertex<T>>> adjacencyList;
+    private HashMap<Vertex<T>, Map<Vertex<T>, Edge<T>>> adjacencyList;
     private Set<Vertex<T>> vertices;
+    private Map<T, Vertex<T>> vertexIndex;
     private Set<Edge<T>> edges;
+    // read-only views over the live sets, handed out instead of copies
+    private Set<Vertex<T>> vertexView;
+    private Set<Edge<T>> edgeView;
 
     public Graph() {
         this.adjacencyList = new HashMap<>();
         this.vertices = new HashSet<>();
+        this.vertexIndex = new HashMap<>();
         this.edges = new HashSet<>();
+        this.vertexView = Collections.unmodifiableSet(this.vertices);
+        this.edgeView = Collections.unmodifiableSet(this.edges);
     }
 
     public void addVertex(Vertex<T> vertex) {
@@ -22,24 +38,41 @@ public class Graph<T> {
             throw new IllegalArgumentException("Vertex already exists.");
         }
         this.vertices.add(vertex);
-        this.adjacencyList.put(vertex, new HashSet<>());
+        this.vertexIndex.put(vertex.getData(), vertex);
+        this.adjacencyList.put(vertex, new HashMap<>());
     }
 
+//    removes the vertex and its incident edges in O(degree)
     public void removeVertex(Vertex<T> vertex) {
         if (!this.vertices.contains(vertex)) {
             throw new IllegalArgumentException("Vertex doesn't exist.");
         }
 
+        Map<Vertex<T>, Edge<T>> incident = this.adjacencyList.remove(vertex);
+        for (Map.Entry<Vertex<T>, Edge<T>> entry : incident.entrySet()) {
+            this.edges.remove(entry.getValue());
+            if (!entry.getKey().equals(vertex)) {
+                this.adjacencyList.get(entry.getKey()).remove(vertex);
+            }
+        }
+
         this.vertices.remove(vertex);
-        this.adjacencyList.remove(vertex);
+        this.vertexIndex.remove(vertex.getData());
+    }
 
-        for (Vertex<T> v : this.vertices) {
-            this.adjacencyList.get(v).remove(vertex);
+//    removes all given vertices, nothing is removed if one of them doesn't exist
+    public void removeVertices(Collection<? extends Vertex<T>> toRemove) {
+        for (Vertex<T> vertex : toRemove) {
+            if (!this.vertices.contains(vertex)) {
+                throw new IllegalArgumentException("Vertex doesn't exist.");
+            }
+        }
+        for (Vertex<T> vertex : toRemove) {
+            // duplicates in the batch are already gone
+            if (this.vertices.contains(vertex)) {
+                removeVertex(vertex);
+            }
         }
-
-        this.edges.removeIf(edge ->
-                edge.getSource().equals(vertex) || edge.getTarget().equals(vertex)
-        );
     }
 
     public void addEdge(Vertex<T> source, Vertex<T> target, double weight) {
@@ -47,14 +80,30 @@ public class Graph<T> {
             throw new IllegalArgumentException("One or both vertices don't exist.");
         }
 
-        Edge<T> edge = new Edge<>(source, target, weight);
-        if (this.edges.contains(edge)) {
+        if (this.adjacencyList.get(source).containsKey(target)) {
             throw new IllegalArgumentException("Edge already exists.");
         }
-        this.edges.add(edge);
 
-        this.adjacencyList.get(source).add(target);
-        this.adjacencyList.get(target).add(source);
+        link(new Edge<>(source, target, weight));
+    }
+
+    /**
+     * Adds all given edges, either every edge is added or, if one fails validation,
+     * the edges added so far are rolled back and the exception is rethrown
+     */
+    public void addEdges(Collection<? extends Edge<T>> toAdd) {
+        List<Edge<T>> added = new ArrayList<>(toAdd.size());
+        try {
+            for (Edge<T> edge : toAdd) {
+                addEdge(edge.getSource(), edge.getTarget(), edge.getWeight());
+                added.add(this.adjacencyList.get(edge.getSource()).get(edge.getTarget()));
+            }
+        } catch (IllegalArgumentException e) {
+            for (Edge<T> edge : added) {
+                unlink(edge);
+            }
+            throw e;
+        }
     }
 
     public void removeEdge(Vertex<T> source, Vertex<T> target, double weight) {
@@ -62,36 +111,116 @@ public class Graph<T> {
             throw new IllegalArgumentException("One or both vertices don't exist.");
         }
 
-        Edge<T> edge = new Edge<>(source, target, weight);
-        this.edges.remove(edge);
+        // only the edge with this weight is removed
+        Edge<T> edge = this.adjacencyList.get(source).get(target);
+        if (edge != null && edge.getWeight() == weight) {
+            unlink(edge);
+        }
+    }
+
+//    remove the edge between two vertices whatever its weight, returns false if there is none
+    public boolean removeEdge(Vertex<T> source, Vertex<T> target) {
+        if (!this.vertices.contains(source) || !this.vertices.contains(target)) {
+            throw new IllegalArgumentException("One or both vertices don't exist.");
+        }
 
-        this.adjacencyList.get(source).remove(target);
-        this.adjacencyList.get(target).remove(source);
+        Edge<T> edge = this.adjacencyList.get(source).get(target);
+        if (edge == null) {
+            return false;
+        }
+        unlink(edge);
+        return true;
     }
 
     public Optional<Edge<T>> getEdge(Vertex<T> source, Vertex<T> target) {
-        return this.edges.stream()
-                .filter(edge -> (edge.getSource().equals(source) && edge.getTarget().equals(target)) ||
-                        (edge.getSource().equals(target) && edge.getTarget().equals(source)))
-                .findFirst();
+        Map<Vertex<T>, Edge<T>> incident = this.adjacencyList.get(source);
+        return incident == null ? Optional.empty() : Optional.ofNullable(incident.get(target));
+    }
+
+//    weight of the edge between two vertices, empty if they are not adjacent
+    public OptionalDouble getEdgeWeight(Vertex<T> source, Vertex<T> target) {
+        Map<Vertex<T>, Edge<T>> incident = this.adjacencyList.get(source);
+        Edge<T> edge = incident == null ? null : incident.get(target);
+        return edge == null ? OptionalDouble.empty() : OptionalDouble.of(edge.getWeight());
     }
 
     public boolean isAdjacent(Vertex<T> source, Vertex<T> target) {
-        return this.adjacencyList.get(source).contains(target);
+        return this.adjacencyList.get(source).containsKey(target);
     }
 
+    public int degree(Vertex<T> vertex) {
+        return incidentOf(vertex).size();
+    }
+
+//    copy of the neighbours, safe to keep while the graph changes
     public Set<Vertex<T>> getNeighbors(Vertex<T> vertex) {
-        return new HashSet<>(this.adjacencyList.get(vertex));
+        return new HashSet<>(this.adjacencyList.get(vertex).keySet());
     }
 
+//    copy of all vertices, safe to keep while the graph changes
     public Set<Vertex<T>> getAllVertices() {
         return new HashSet<>(this.vertices);
     }
 
+//    copy of all edges, safe to keep while the graph changes
     public Set<Edge<T>> getAllEdges() {
         return new HashSet<>(this.edges);
     }
 
+    /**
+     * Read-only view of the neighbours, no copy is made.
+     * The view follows later changes to the graph, don't modify the graph while iterating it.
+     */
+    public Set<Vertex<T>> getNeighborsView(Vertex<T> vertex) {
+        return Collections.unmodifiableSet(incidentOf(vertex).keySet());
+    }
+
+//    read-only view of the edges touching a vertex, follows later changes to the graph
+    public Collection<Edge<T>> getIncidentEdgesView(Vertex<T> vertex) {
+        return Collections.unmodifiableCollection(incidentOf(vertex).values());
+    }
+
+//    read-only view of all vertices, follows later changes to the graph
+    public Set<Vertex<T>> getVerticesView() {
+        return this.vertexView;
+    }
+
+//    read-only view of all edges, follows later changes to the graph
+    public Set<Edge<T>> getEdgesView() {
+        return this.edgeView;
+    }
+
+    public void forEachVertex(Consumer<? super Vertex<T>> action) {
+        for (Vertex<T> vertex : this.vertices) {
+            action.accept(vertex);
+        }
+    }
+
+    public void forEachEdge(Consumer<? super Edge<T>> action) {
+        for (Edge<T> edge : this.edges) {
+            action.accept(edge);
+        }
+    }
+
+    public void forEachNeighbor(Vertex<T> vertex, Consumer<? super Vertex<T>> action) {
+        for (Vertex<T> neighbor : incidentOf(vertex).keySet()) {
+            action.accept(neighbor);
+        }
+    }
+
+//    neighbour and weight of every edge touching a vertex
+    public void forEachWeightedNeighbor(Vertex<T> vertex, ObjDoubleConsumer<? super Vertex<T>> action) {
+        for (Map.Entry<Vertex<T>, Edge<T>> entry : incidentOf(vertex).entrySet()) {
+            action.accept(entry.getKey(), entry.getValue().getWeight());
+        }
+    }
+
+    public void forEachIncidentEdge(Vertex<T> vertex, Consumer<? super Edge<T>> action) {
+        for (Edge<T> edge : incidentOf(vertex).values()) {
+            action.accept(edge);
+        }
+    }
+
     public int getVertexCount() {
         return this.vertices.size();
     }
@@ -100,30 +229,54 @@ public class Graph<T> {
         return this.edges.size();
     }
 
-//    check if the graph is connected using dfs
+//    check if the graph is connected using an iterative dfs, safe on long paths
     public boolean isConnected() {
         if (vertices.isEmpty()) return true;
 
         Set<Vertex<T>> visited = new HashSet<>();
+        Deque<Vertex<T>> stack = new ArrayDeque<>();
         Vertex<T> start = vertices.iterator().next();
-        dfsHelper(start, visited);
+        visited.add(start);
+        stack.push(start);
+
+        while (!stack.isEmpty()) {
+            Vertex<T> vertex = stack.pop();
+            for (Vertex<T> neighbor : this.adjacencyList.get(vertex).keySet()) {
+                if (visited.add(neighbor)) {
+                    stack.push(neighbor);
+                }
+            }
+        }
 
         return visited.size() == vertices.size();
     }
 
-    private void dfsHelper(Vertex<T> vertex, Set<Vertex<T>> visited) {
-        visited.add(vertex);
-        for (Vertex<T> neighbor : getNeighbors(vertex)) {
-            if (!visited.contains(neighbor)) {
-                dfsHelper(neighbor, visited);
-            }
+    private Map<Vertex<T>, Edge<T>> incidentOf(Vertex<T> vertex) {
+        Map<Vertex<T>, Edge<T>> incident = this.adjacencyList.get(vertex);
+        if (incident == null) {
+            throw new IllegalArgumentException("Vertex doesn't exist.");
         }
+        return incident;
+    }
+
+    private void link(Edge<T> edge) {
+        this.edges.add(edge);
+        this.adjacencyList.get(edge.getSource()).put(edge.getTarget(), edge);
+        this.adjacencyList.get(edge.getTarget()).put(edge.getSource(), edge);
+    }
+
+    private void unlink(Edge<T> edge) {
+        this.edges.remove(edge);
+        this.adjacencyList.get(edge.getSource()).remove(edge.getTarget());
+        this.adjacencyList.get(edge.getTarget()).remove(edge.getSource());
     }
 
 //    get a vertex by data value
     public Optional<Vertex<T>> getVertexByData(T data) {
-        return vertices.stream()
-                .filter(v -> v.getData().equals(data))
-                .findFirst();
+        return Optional.ofNullable(vertexIndex.get(data));
+    }
+
+    public boolean containsVertex(Vertex<T> vertex) {
+        return this.vertices.contains(vertex);
     }
 }
\ No newline at end of file
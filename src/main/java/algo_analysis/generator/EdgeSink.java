@@ -0,0 +1,11 @@
+package algo_analysis.generator;
+
+import java.io.IOException;
+
+/**
+ * Receives generated edges one at a time, endpoints are vertex ids 0..n-1
+ */
+@FunctionalInterface
+public interface EdgeSink {
+    void edge(int source, int target, double weight) throws IOException;
+}
@@ -0,0 +1,118 @@
+package algo_analysis.generator;
+
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.Graph;
+import algo_analysis.entity.Vertex;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * EdgeSink that collects generated edges in growable primitive arrays (16 bytes per edge)
+ * and converts them to GraphData, Graph or CsrGraph with GraphGenerator.vertexName names
+ */
+public class GeneratedGraph implements EdgeSink {
+    private final int vertexCount;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+    private int edgeCount;
+
+    public GeneratedGraph(int vertexCount) {
+        this(vertexCount, 16);
+    }
+
+    public GeneratedGraph(int vertexCount, int expectedEdges) {
+        if (vertexCount < 0) {
+            throw new IllegalArgumentException("Vertex count cannot be negative.");
+        }
+        int capacity = Math.max(16, expectedEdges);
+        this.vertexCount = vertexCount;
+        this.sources = new int[capacity];
+        this.targets = new int[capacity];
+        this.weights = new double[capacity];
+    }
+
+    @Override
+    public void edge(int source, int target, double weight) {
+        if (edgeCount == sources.length) {
+            int capacity = (int) Math.min(Integer.MAX_VALUE - 8, 2L * sources.length);
+            if (capacity == edgeCount) {
+                throw new IllegalStateException("Too many edges to collect in memory.");
+            }
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            weights = Arrays.copyOf(weights, capacity);
+        }
+        sources[edgeCount] = source;
+        targets[edgeCount] = target;
+        weights[edgeCount] = weight;
+        edgeCount++;
+    }
+
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    public GraphData toGraphData(int id) {
+        GraphData data = new GraphData();
+        data.id = id;
+        data.nodes = new ArrayList<>(names());
+        data.edges = new ArrayList<>(edgeCount);
+        for (int e = 0; e < edgeCount; e++) {
+            data.edges.add(new EdgeInfo(
+                    GraphGenerator.vertexName(sources[e]),
+                    GraphGenerator.vertexName(targets[e]),
+                    weights[e]
+            ));
+        }
+        return data;
+    }
+
+    public Graph<String> toGraph() {
+        Graph<String> graph = new Graph<>();
+        @SuppressWarnings("unchecked")
+        Vertex<String>[] vertices = (Vertex<String>[]) new Vertex[vertexCount];
+        for (int v = 0; v < vertexCount; v++) {
+            vertices[v] = new Vertex<>(GraphGenerator.vertexName(v));
+            graph.addVertex(vertices[v]);
+        }
+        for (int e = 0; e < edgeCount; e++) {
+            graph.addEdge(vertices[sources[e]], vertices[targets[e]], weights[e]);
+        }
+        return graph;
+    }
+
+    public CsrGraph<String> toCsrGraph() {
+        return CsrGraph.of(names(),
+                Arrays.copyOf(sources, edgeCount),
+                Arrays.copyOf(targets, edgeCount),
+                Arrays.copyOf(weights, edgeCount));
+    }
+
+//    names are produced on demand instead of being stored
+    private List<String> names() {
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= vertexCount) {
+                    throw new IndexOutOfBoundsException("Vertex " + index);
+                }
+                return GraphGenerator.vertexName(index);
+            }
+
+            @Override
+            public int size() {
+                return vertexCount;
+            }
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package algo_analysis.generator;
+
+import algo_analysis.io.BinaryGraphWriter;
+import algo_analysis.io.JsonInputWriter;
+
+import java.io.IOException;
+
+/**
+ * Command line front end for GraphGenerator, writes one generated graph as an input file
+ *
+ * GeneratorMain TYPE VERTICES [PARAM] [--seed S] [--max-weight W] [--output FILE]
+ *   random    PARAM = expected edges (default 4 * vertices), always connected
+ *   geometric PARAM = radius (default sqrt(8 / (pi * vertices)), about 8 neighbours)
+ *   grid      PARAM unused, rows = cols = ceil(sqrt(vertices))
+ *   powerlaw  PARAM = edges per new vertex (default 4)
+ *   complete  PARAM unused
+ * JSON output is streamed edge by edge. A .mstg output is collected in memory first.
+ */
+public class GeneratorMain {
+
+    public static void main(String[] args) {
+        try {
+            run(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            System.err.println("Usage: GeneratorMain random|geometric|grid|powerlaw|complete VERTICES [PARAM]"
+                    + " [--seed S] [--max-weight W] [--output FILE]");
+        } catch (IOException e) {
+            System.err.println("Error: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private static void run(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Graph type and vertex count are required.");
+        }
+
+        String type = args[0];
+        int vertices = Integer.parseInt(args[1]);
+        String param = null;
+        long seed = 42;
+        int maxWeight = GraphGenerator.DEFAULT_MAX_WEIGHT;
+        String output = "generated.json";
+
+        for (int i = 2; i < args.length; i++) {
+            switch (args[i]) {
+                case "--seed":
+                    seed = Long.parseLong(value(args, ++i));
+                    break;
+                case "--max-weight":
+                    maxWeight = Integer.parseInt(value(args, ++i));
+                    break;
+                case "--output":
+                    output = value(args, ++i);
+                    break;
+                default:
+                    if (param != null) {
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                    }
+                    param = args[i];
+            }
+        }
+
+        if (type.equals("grid")) {
+            vertices = (int) Math.pow(Math.ceil(Math.sqrt(vertices)), 2);
+        }
+
+        GraphGenerator generator = new GraphGenerator(seed, maxWeight);
+        long edges;
+        if (output.endsWith(".mstg")) {
+            GeneratedGraph graph = new GeneratedGraph(vertices);
+            edges = generate(generator, type, vertices, param, graph);
+            try (BinaryGraphWriter writer = BinaryGraphWriter.open(output)) {
+                writer.write(graph.toGraphData(1));
+            }
+        } else {
+            try (JsonInputWriter writer = JsonInputWriter.open(output)) {
+                writer.beginGraph(1, vertices, GraphGenerator::vertexName);
+                edges = generate(generator, type, vertices, param, writer::edge);
+                writer.endGraph();
+            }
+        }
+
+        System.out.println("Generated " + type + " graph: " + vertices + " vertices, " + edges + " edges -> " + output);
+    }
+
+    private static long generate(GraphGenerator generator, String type, int vertices, String param, EdgeSink sink)
+            throws IOException {
+        switch (type) {
+            case "random":
+                long expected = param == null ? 4L * vertices : Long.parseLong(param);
+                return generator.random(vertices, expected, true, sink);
+            case "geometric":
+                double radius = param == null ? Math.sqrt(8.0 / (Math.PI * Math.max(1, vertices))) : Double.parseDouble(param);
+                return generator.geometric(vertices, radius, sink);
+            case "grid":
+                int side = (int) Math.round(Math.sqrt(vertices));
+                return generator.grid(side, side, sink);
+            case "powerlaw":
+                return generator.powerLaw(vertices, param == null ? 4 : Integer.parseInt(param), sink);
+            case "complete":
+                return generator.complete(vertices, sink);
+            default:
+                throw new IllegalArgumentException("Unknown graph type: " + type);
+        }
+    }
+
+    private static String value(String[] args, int i) {
+        if (i >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[i - 1]);
+        }
+        return args[i];
+    }
+}
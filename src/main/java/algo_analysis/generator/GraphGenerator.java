@@ -0,0 +1,270 @@
+package algo_analysis.generator;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded synthetic graph generator for scale testing
+ * Every method streams edges into an EdgeSink and returns how many were emitted,
+ * the same seed always produces the same graph. No method emits self loops or
+ * duplicate vertex pairs.
+ */
+public class GraphGenerator {
+    public static final int DEFAULT_MAX_WEIGHT = 1000;
+
+    private final SplittableRandom random;
+    private final int maxWeight;
+
+    public GraphGenerator(long seed) {
+        this(seed, DEFAULT_MAX_WEIGHT);
+    }
+
+//    weights are uniform integers in [1, maxWeight], except for geometric graphs
+    public GraphGenerator(long seed, int maxWeight) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("Max weight must be positive.");
+        }
+        this.random = new SplittableRandom(seed);
+        this.maxWeight = maxWeight;
+    }
+
+    public static String vertexName(int vertex) {
+        return "V" + vertex;
+    }
+
+    /**
+     * Erdős–Rényi style random graph with about expectedEdges edges, O(n + m) time.
+     * Pairs are picked by geometric skipping over all vertex pairs (G(n, p) with
+     * p = m / (n choose 2)), so nothing but the optional spanning tree is stored.
+     * With connected set a random spanning tree is emitted first.
+     */
+    public long random(int n, long expectedEdges, boolean connected, EdgeSink sink) throws IOException {
+        checkVertices(n);
+        long pairs = (long) n * (n - 1) / 2;
+        long emitted = 0;
+
+        int[] parent = null;
+        if (connected) {
+            parent = new int[n];
+            for (int v = 1; v < n; v++) {
+                parent[v] = random.nextInt(v);
+                sink.edge(parent[v], v, nextWeight());
+                emitted++;
+            }
+        }
+
+        long remainingPairs = pairs - emitted;
+        if (remainingPairs <= 0) {
+            return emitted;
+        }
+        double p = Math.max(0.0, expectedEdges - emitted) / remainingPairs;
+        if (p <= 0.0) {
+            return emitted;
+        }
+        if (p >= 1.0) {
+            return emitted + complete(n, parent, sink);
+        }
+
+        // walk pairs (w, v) with w < v in order, jumping geometric distances
+        double logQ = Math.log(1.0 - p);
+        int v = 1;
+        long w = -1;
+        while (v < n) {
+            w += 1 + (long) Math.floor(Math.log(1.0 - random.nextDouble()) / logQ);
+            while (w >= v && v < n) {
+                w -= v;
+                v++;
+            }
+            if (v < n && (parent == null || parent[v] != w)) {
+                sink.edge((int) w, v, nextWeight());
+                emitted++;
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * Random geometric graph: n points in the unit square, an edge between every pair
+     * closer than radius, weighted by Euclidean distance. Points are bucketed in a grid
+     * of radius sized cells so only neighbouring cells are compared.
+     */
+    public long geometric(int n, double radius, EdgeSink sink) throws IOException {
+        checkVertices(n);
+        if (radius <= 0.0) {
+            throw new IllegalArgumentException("Radius must be positive.");
+        }
+
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = random.nextDouble();
+            y[i] = random.nextDouble();
+        }
+
+        int cells = (int) Math.max(1, Math.min(Math.floor(1.0 / radius), Math.sqrt(n) + 1));
+        int[] cellOf = new int[n];
+        int[] cellStart = new int[cells * cells + 1];
+        for (int i = 0; i < n; i++) {
+            cellOf[i] = cell(x[i], cells) * cells + cell(y[i], cells);
+            cellStart[cellOf[i] + 1]++;
+        }
+        for (int c = 0; c < cells * cells; c++) {
+            cellStart[c + 1] += cellStart[c];
+        }
+        int[] next = new int[cells * cells];
+        System.arraycopy(cellStart, 0, next, 0, next.length);
+        int[] points = new int[n];
+        for (int i = 0; i < n; i++) {
+            points[next[cellOf[i]]++] = i;
+        }
+
+        double radiusSquared = radius * radius;
+        long emitted = 0;
+        for (int i = 0; i < n; i++) {
+            int cx = cellOf[i] / cells;
+            int cy = cellOf[i] % cells;
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dy = -1; dy <= 1; dy++) {
+                    int nx = cx + dx;
+                    int ny = cy + dy;
+                    if (nx < 0 || ny < 0 || nx >= cells || ny >= cells) {
+                        continue;
+                    }
+                    int c = nx * cells + ny;
+                    for (int k = cellStart[c]; k < cellStart[c + 1]; k++) {
+                        int j = points[k];
+                        if (j <= i) {
+                            continue;
+                        }
+                        double ddx = x[i] - x[j];
+                        double ddy = y[i] - y[j];
+                        double distanceSquared = ddx * ddx + ddy * ddy;
+                        if (distanceSquared <= radiusSquared) {
+                            sink.edge(i, j, Math.sqrt(distanceSquared));
+                            emitted++;
+                        }
+                    }
+                }
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * rows x cols lattice, vertex r * cols + c is linked to its right and lower neighbour
+     */
+    public long grid(int rows, int cols, EdgeSink sink) throws IOException {
+        if (rows < 0 || cols < 0) {
+            throw new IllegalArgumentException("Grid size cannot be negative.");
+        }
+        checkVertices((long) rows * cols);
+
+        long emitted = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                int v = r * cols + c;
+                if (c + 1 < cols) {
+                    sink.edge(v, v + 1, nextWeight());
+                    emitted++;
+                }
+                if (r + 1 < rows) {
+                    sink.edge(v, v + cols, nextWeight());
+                    emitted++;
+                }
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * Barabási–Albert preferential attachment: starts from a clique of edgesPerVertex + 1
+     * vertices, every later vertex links to edgesPerVertex distinct existing vertices
+     * chosen proportionally to degree. Keeps one int per edge endpoint for the sampling.
+     */
+    public long powerLaw(int n, int edgesPerVertex, EdgeSink sink) throws IOException {
+        checkVertices(n);
+        if (edgesPerVertex < 1) {
+            throw new IllegalArgumentException("Edges per vertex must be positive.");
+        }
+
+        int seedSize = Math.min(n, edgesPerVertex + 1);
+        long totalEdges = (long) seedSize * (seedSize - 1) / 2 + (long) (n - seedSize) * edgesPerVertex;
+        if (2 * totalEdges > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many edges for preferential attachment.");
+        }
+
+        int[] endpoints = new int[(int) (2 * totalEdges)];
+        int size = 0;
+        long emitted = 0;
+
+        for (int u = 0; u < seedSize; u++) {
+            for (int v = u + 1; v < seedSize; v++) {
+                sink.edge(u, v, nextWeight());
+                endpoints[size++] = u;
+                endpoints[size++] = v;
+                emitted++;
+            }
+        }
+
+        int[] chosen = new int[edgesPerVertex];
+        for (int v = seedSize; v < n; v++) {
+            int count = 0;
+            while (count < edgesPerVertex) {
+                int target = endpoints[random.nextInt(size)];
+                boolean duplicate = false;
+                for (int k = 0; k < count; k++) {
+                    if (chosen[k] == target) {
+                        duplicate = true;
+                        break;
+                    }
+                }
+                if (!duplicate) {
+                    chosen[count++] = target;
+                }
+            }
+            for (int k = 0; k < count; k++) {
+                sink.edge(chosen[k], v, nextWeight());
+                endpoints[size++] = chosen[k];
+                endpoints[size++] = v;
+                emitted++;
+            }
+        }
+        return emitted;
+    }
+
+    /**
+     * Every vertex pair
+     */
+    public long complete(int n, EdgeSink sink) throws IOException {
+        checkVertices(n);
+        return complete(n, null, sink);
+    }
+
+//    complete graph minus the tree edges already emitted
+    private long complete(int n, int[] parent, EdgeSink sink) throws IOException {
+        long emitted = 0;
+        for (int v = 1; v < n; v++) {
+            for (int w = 0; w < v; w++) {
+                if (parent == null || parent[v] != w) {
+                    sink.edge(w, v, nextWeight());
+                    emitted++;
+                }
+            }
+        }
+        return emitted;
+    }
+
+    private double nextWeight() {
+        return 1 + random.nextInt(maxWeight);
+    }
+
+    private static int cell(double coordinate, int cells) {
+        return Math.min(cells - 1, (int) (coordinate * cells));
+    }
+
+    private static void checkVertices(long n) {
+        if (n < 0 || n > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Vertex count out of range: " + n);
+        }
+    }
+}
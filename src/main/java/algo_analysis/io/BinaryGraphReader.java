@@ -0,0 +1,177 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+import algo_analysis.entity.CsrGraph;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads binary graph files written by BinaryGraphWriter
+ * Each graph section is memory mapped with FileChannel.map and its edge arrays are
+ * bulk copied out of the mapping, no text is parsed
+ */
+public class BinaryGraphReader implements GraphSource {
+    private final FileChannel channel;
+    private final int graphCount;
+    private int graphsRead;
+    private int lastGraphId;
+    private long position;
+
+    private BinaryGraphReader(FileChannel channel) throws IOException {
+        this.channel = channel;
+
+        ByteBuffer header = read(0, BinaryGraphWriter.HEADER_SIZE).order(ByteOrder.BIG_ENDIAN);
+        if (header.getInt() != BinaryGraphWriter.MAGIC) {
+            throw new IOException("Not a binary graph file.");
+        }
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        int version = header.getInt();
+        if (version != BinaryGraphWriter.VERSION) {
+            throw new IOException("Unsupported binary graph version: " + version);
+        }
+        this.graphCount = header.getInt();
+        this.position = BinaryGraphWriter.HEADER_SIZE;
+    }
+
+    public static BinaryGraphReader open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath), StandardOpenOption.READ);
+        try {
+            return new BinaryGraphReader(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getGraphCount() {
+        return graphCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return graphsRead < graphCount;
+    }
+
+    @Override
+    public GraphData next() {
+        Section section = nextSection();
+
+        GraphData data = new GraphData();
+        data.id = section.id;
+        data.nodes = section.names;
+        data.edges = new ArrayList<>(section.sources.length);
+        for (int e = 0; e < section.sources.length; e++) {
+            data.edges.add(new EdgeInfo(
+                    section.names.get(section.sources[e]),
+                    section.names.get(section.targets[e]),
+                    section.weights[e]
+            ));
+        }
+        return data;
+    }
+
+//    next graph straight into a CSR snapshot without creating EdgeInfo objects
+    public CsrGraph<String> nextCsrGraph() {
+        Section section = nextSection();
+        return CsrGraph.of(section.names, section.sources, section.targets, section.weights);
+    }
+
+//    id of the graph returned by the last next or nextCsrGraph call
+    public int getLastGraphId() {
+        return lastGraphId;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private Section nextSection() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more graphs.");
+        }
+        try {
+            long sectionBytes = read(position, Long.BYTES).getLong();
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, position + Long.BYTES, sectionBytes);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            position += Long.BYTES + sectionBytes;
+            graphsRead++;
+
+            Section section = decode(mapped);
+            lastGraphId = section.id;
+            return section;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Section decode(ByteBuffer buffer) {
+        Section section = new Section();
+        section.id = buffer.getInt();
+        int nodeCount = buffer.getInt();
+        int edgeCount = buffer.getInt();
+        int namesBytes = buffer.getInt();
+
+        section.names = new ArrayList<>(nodeCount);
+        byte[] scratch = new byte[64];
+        for (int i = 0; i < nodeCount; i++) {
+            int length = buffer.getInt();
+            if (length > scratch.length) {
+                scratch = new byte[Math.max(length, 2 * scratch.length)];
+            }
+            buffer.get(scratch, 0, length);
+            section.names.add(new String(scratch, 0, length, StandardCharsets.UTF_8));
+        }
+
+        int edgesOffset = align(BinaryGraphWriter.SECTION_HEADER_SIZE + namesBytes);
+        int weightsOffset = align(edgesOffset + 2 * Integer.BYTES * edgeCount);
+
+        section.sources = new int[edgeCount];
+        section.targets = new int[edgeCount];
+        section.weights = new double[edgeCount];
+
+        buffer.position(edgesOffset);
+        buffer.asIntBuffer().get(section.sources);
+        buffer.position(edgesOffset + Integer.BYTES * edgeCount);
+        buffer.asIntBuffer().get(section.targets);
+        buffer.position(weightsOffset);
+        buffer.asDoubleBuffer().get(section.weights);
+
+        return section;
+    }
+
+    private ByteBuffer read(long at, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, at + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of binary graph file.");
+            }
+        }
+        buffer.flip();
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static int align(int position) {
+        return (position + 7) & ~7;
+    }
+
+    private static class Section {
+        int id;
+        List<String> names;
+        int[] sources;
+        int[] targets;
+        double[] weights;
+    }
+}
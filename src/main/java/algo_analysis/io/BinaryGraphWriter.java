@@ -0,0 +1,163 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes graphs in the compact binary graph format read by BinaryGraphReader
+ *
+ * File:    magic "MSTG" (big endian), version, graph count, reserved - then one section per graph
+ * Section: section length (long), id, node count, edge count, names length,
+ *          names (int byte length + UTF-8 bytes each), padding to 8 bytes,
+ *          sources int[E], targets int[E], padding to 8 bytes, weights double[E]
+ * Everything after the magic is little endian, sections are multiples of 8 bytes
+ * so every weights array starts 8 byte aligned.
+ */
+public class BinaryGraphWriter implements Closeable {
+    public static final int MAGIC = 0x4D535447; // "MSTG"
+    public static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int SECTION_HEADER_SIZE = 16;
+
+    private final FileChannel channel;
+    private int graphCount;
+    private boolean closed;
+
+    private BinaryGraphWriter(FileChannel channel) throws IOException {
+        this.channel = channel;
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC);
+        header.order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(VERSION);
+        header.putInt(0); // graph count, patched on close
+        header.putInt(0);
+        header.flip();
+        writeFully(header);
+    }
+
+    public static BinaryGraphWriter open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            return new BinaryGraphWriter(channel);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+//    convert any readable input (json or binary) to a binary graph file, returns the number of graphs
+    public static int convert(String inputPath, String outputPath) throws IOException {
+        try (GraphSource input = GraphSource.open(inputPath);
+             BinaryGraphWriter output = open(outputPath)) {
+            while (input.hasNext()) {
+                output.write(input.next());
+            }
+            return output.graphCount;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+//    edges with unknown endpoints are skipped like in JSONHandler.buildGraph
+    public void write(GraphData data) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed.");
+        }
+
+        // repeated names are written once, the reader's CsrGraph needs distinct vertices
+        Map<String, Integer> vertexIds = new HashMap<>();
+        List<byte[]> names = new ArrayList<>(data.nodes.size());
+        long namesBytes = 0;
+        for (String node : data.nodes) {
+            if (vertexIds.putIfAbsent(node, names.size()) == null) {
+                byte[] name = node.getBytes(StandardCharsets.UTF_8);
+                names.add(name);
+                namesBytes += Integer.BYTES + name.length;
+            }
+        }
+
+        int edgeCount = 0;
+        for (EdgeInfo edge : data.edges) {
+            if (vertexIds.containsKey(edge.from) && vertexIds.containsKey(edge.to)) {
+                edgeCount++;
+            }
+        }
+
+        long edgesOffset = align(SECTION_HEADER_SIZE + namesBytes);
+        long weightsOffset = align(edgesOffset + 2L * Integer.BYTES * edgeCount);
+        long sectionBytes = weightsOffset + (long) Double.BYTES * edgeCount;
+        if (Long.BYTES + sectionBytes > Integer.MAX_VALUE) {
+            throw new IOException("Graph " + data.id + " is too large for a single binary section.");
+        }
+
+        ByteBuffer section = ByteBuffer.allocate((int) (Long.BYTES + sectionBytes)).order(ByteOrder.LITTLE_ENDIAN);
+        section.putLong(sectionBytes);
+        section.putInt(data.id);
+        section.putInt(names.size());
+        section.putInt(edgeCount);
+        section.putInt((int) namesBytes);
+        for (byte[] name : names) {
+            section.putInt(name.length);
+            section.put(name);
+        }
+
+        int sourcesPos = Long.BYTES + (int) edgesOffset;
+        int targetsPos = sourcesPos + Integer.BYTES * edgeCount;
+        int weightsPos = Long.BYTES + (int) weightsOffset;
+        int e = 0;
+        for (EdgeInfo edge : data.edges) {
+            Integer source = vertexIds.get(edge.from);
+            Integer target = vertexIds.get(edge.to);
+            if (source != null && target != null) {
+                section.putInt(sourcesPos + Integer.BYTES * e, source);
+                section.putInt(targetsPos + Integer.BYTES * e, target);
+                section.putDouble(weightsPos + Double.BYTES * e, edge.weight);
+                e++;
+            }
+        }
+
+        section.clear();
+        writeFully(section);
+        graphCount++;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            ByteBuffer count = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            count.putInt(graphCount).flip();
+            channel.write(count, 8);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+}
@@ -0,0 +1,34 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.GraphData;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+
+/**
+ * Graph by graph input, backed by either a JSON input file or a binary graph file
+ */
+public interface GraphSource extends Iterator<GraphData>, Closeable {
+
+//    open a file, the binary format is detected by its magic number
+    static GraphSource open(String filePath) throws IOException {
+        if (isBinary(filePath)) {
+            return BinaryGraphReader.open(filePath);
+        }
+        return JsonGraphReader.open(filePath);
+    }
+
+    private static boolean isBinary(String filePath) throws IOException {
+        try (InputStream in = Files.newInputStream(Paths.get(filePath))) {
+            return new DataInputStream(in).readInt() == BinaryGraphWriter.MAGIC;
+        } catch (EOFException e) {
+            return false;
+        }
+    }
+}
@@ -7,45 +7,36 @@ import java.io.*;
 import java.util.*;
 
 public class JSONHandler {
-//    read file
+//    read file, graphs are parsed in a single streaming pass
     public static List<GraphData> readInput(String filePath) throws IOException {
         List<GraphData> graphs = new ArrayList<>();
-        StringBuilder jsonContent = new StringBuilder();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader(filePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                jsonContent.append(line.trim());
+        try (JsonGraphReader reader = JsonGraphReader.open(filePath)) {
+            while (reader.hasNext()) {
+                graphs.add(reader.next());
             }
-        }
-
-        String json = jsonContent.toString();
-
-        int graphsStart = json.indexOf("\"graphs\"");
-        if (graphsStart == -1) {
-            throw new IOException("Invalid JSON: 'graphs' array not found");
-        }
-
-        int arrayStart = json.indexOf("[", graphsStart);
-        int arrayEnd = findMatchingBracket(json, arrayStart, '[', ']');
-        String graphsArray = json.substring(arrayStart + 1, arrayEnd);
-
-        List<String> graphObjects = splitObjects(graphsArray);
-        for (String graphObj : graphObjects) {
-            GraphData graphData = parseGraphObject(graphObj);
-            graphs.add(graphData);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
 
         return graphs;
     }
 
+//    open file for graph by graph streaming, binary graph files are detected too, caller closes the source
+    public static GraphSource openInput(String filePath) throws IOException {
+        return GraphSource.open(filePath);
+    }
+
 //    graphdata to Graph class
     public static Graph<String> buildGraph(GraphData data) {
         Graph<String> graph = new Graph<>();
         Map<String, Vertex<String>> vertexMap = new HashMap<>();
 
-        // Add all vertices
+        // Add all vertices, a repeated name is the same vertex
         for (String nodeName : data.nodes) {
+            if (vertexMap.containsKey(nodeName)) {
+                continue;
+            }
             Vertex<String> vertex = new Vertex<>(nodeName);
             vertexMap.put(nodeName, vertex);
             graph.addVertex(vertex);
@@ -56,204 +47,92 @@ public class JSONHandler {
             Vertex<String> source = vertexMap.get(edgeInfo.from);
             Vertex<String> target = vertexMap.get(edgeInfo.to);
 
-            if (source != null && target != null) {
-                graph.addEdge(source, target, edgeInfo.weight);
+            if (source == null || target == null) {
+                continue;
             }
+
+            // Graph holds one edge per pair, of parallel edges only the lightest can be in an MST
+            Optional<Edge<String>> existing = graph.getEdge(source, target);
+            if (existing.isPresent()) {
+                if (existing.get().getWeight() <= edgeInfo.weight) {
+                    continue;
+                }
+                graph.removeEdge(source, target);
+            }
+            graph.addEdge(source, target, edgeInfo.weight);
         }
 
         return graph;
     }
 
-
-//  === output ===
-    public static void writeOutput(String filePath, List<GraphResult> results) throws IOException {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filePath))) {
-            writer.println("{");
-            writer.println("  \"results\": [");
-
-            for (int i = 0; i < results.size(); i++) {
-                GraphResult result = results.get(i);
-                writer.println("    {");
-                writer.println("      \"graph_id\": " + result.graphId + ",");
-                writer.println("      \"input_stats\": {");
-                writer.println("        \"vertices\": " + result.vertices + ",");
-                writer.println("        \"edges\": " + result.edges);
-                writer.println("      },");
-
-                // Prim's result
-                writer.println("      \"prim\": {");
-                writeAlgorithmResult(writer, result.primResult, "      ");
-                writer.println("      },");
-
-                // Kruskal's result
-                writer.println("      \"kruskal\": {");
-                writeAlgorithmResult(writer, result.kruskalResult, "      ");
-                writer.println("      }");
-
-                if (i < results.size() - 1) {
-                    writer.println("    },");
-                } else {
-                    writer.println("    }");
-                }
+//    graphdata to CsrGraph snapshot, skips the Graph object model entirely
+    public static CsrGraph<String> buildCsrGraph(GraphData data) {
+        Map<String, Integer> vertexIds = new HashMap<>();
+        List<String> names = new ArrayList<>(data.nodes.size());
+        for (String nodeName : data.nodes) {
+            if (vertexIds.putIfAbsent(nodeName, names.size()) == null) {
+                names.add(nodeName);
             }
-
-            writer.println("  ]");
-            writer.println("}");
         }
-    }
 
-//    write algo result
-    private static void writeAlgorithmResult(PrintWriter writer, AlgorithmResult result, String indent) {
-        writer.println(indent + "  \"mst_edges\": [");
+        int[] sources = new int[data.edges.size()];
+        int[] targets = new int[data.edges.size()];
+        double[] weights = new double[data.edges.size()];
+        int edgeCount = 0;
 
-        for (int i = 0; i < result.mstEdges.size(); i++) {
-            EdgeInfo edge = result.mstEdges.get(i);
-            writer.print(indent + "    {\"from\": \"" + edge.from + "\", ");
-            writer.print("\"to\": \"" + edge.to + "\", ");
-            writer.print("\"weight\": " + edge.weight + "}");
+        for (EdgeInfo edgeInfo : data.edges) {
+            Integer source = vertexIds.get(edgeInfo.from);
+            Integer target = vertexIds.get(edgeInfo.to);
 
-            if (i < result.mstEdges.size() - 1) {
-                writer.println(",");
-            } else {
-                writer.println();
+            if (source != null && target != null) {
+                sources[edgeCount] = source;
+                targets[edgeCount] = target;
+                weights[edgeCount] = edgeInfo.weight;
+                edgeCount++;
             }
         }
 
-        writer.println(indent + "  ],");
-        writer.println(indent + "  \"total_cost\": " + result.totalCost + ",");
-        writer.println(indent + "  \"operations_count\": " + result.operationsCount + ",");
-        writer.println(indent + "  \"execution_time_ms\": " + result.executionTimeMs);
+        return CsrGraph.of(names,
+                Arrays.copyOf(sources, edgeCount),
+                Arrays.copyOf(targets, edgeCount),
+                Arrays.copyOf(weights, edgeCount));
     }
 
-    // == helper methods to upper ==
-
-    private static GraphData parseGraphObject(String graphObj) {
-        GraphData data = new GraphData();
-        data.id = parseIntValue(graphObj, "id");
-        data.nodes = parseStringArray(graphObj, "nodes");
-        data.edges = parseEdgesArray(graphObj);
-        return data;
-    }
-
-    private static int parseIntValue(String json, String key) {
-        String pattern = "\"" + key + "\"";
-        int keyIndex = json.indexOf(pattern);
-        if (keyIndex == -1) return 0;
-
-        int colonIndex = json.indexOf(":", keyIndex);
-        int commaIndex = json.indexOf(",", colonIndex);
-        int braceIndex = json.indexOf("}", colonIndex);
-
-        int endIndex = (commaIndex != -1 && (braceIndex == -1 || commaIndex < braceIndex))
-                ? commaIndex : braceIndex;
-
-        String valueStr = json.substring(colonIndex + 1, endIndex).trim();
-        return Integer.parseInt(valueStr);
-    }
-
-    private static List<String> parseStringArray(String json, String key) {
-        List<String> result = new ArrayList<>();
-        String pattern = "\"" + key + "\"";
-        int keyIndex = json.indexOf(pattern);
-        if (keyIndex == -1) return result;
-
-        int arrayStart = json.indexOf("[", keyIndex);
-        int arrayEnd = findMatchingBracket(json, arrayStart, '[', ']');
-        String arrayContent = json.substring(arrayStart + 1, arrayEnd);
-
-        String[] items = arrayContent.split(",");
-        for (String item : items) {
-            String cleaned = item.trim().replace("\"", "");
-            if (!cleaned.isEmpty()) {
-                result.add(cleaned);
+//    graphdata to an adjacency matrix for dense graphs, the lightest of parallel edges is kept
+    public static DenseGraph<String> buildDenseGraph(GraphData data) {
+        Map<String, Integer> vertexIds = new HashMap<>();
+        List<String> names = new ArrayList<>(data.nodes.size());
+        for (String nodeName : data.nodes) {
+            if (vertexIds.putIfAbsent(nodeName, names.size()) == null) {
+                names.add(nodeName);
             }
         }
 
-        return result;
-    }
-
-    private static List<EdgeInfo> parseEdgesArray(String json) {
-        List<EdgeInfo> edges = new ArrayList<>();
-        String pattern = "\"edges\"";
-        int keyIndex = json.indexOf(pattern);
-        if (keyIndex == -1) return edges;
-
-        int arrayStart = json.indexOf("[", keyIndex);
-        int arrayEnd = findMatchingBracket(json, arrayStart, '[', ']');
-        String arrayContent = json.substring(arrayStart + 1, arrayEnd);
+        DenseGraph.Builder<String> builder = DenseGraph.builder(names);
+        for (EdgeInfo edgeInfo : data.edges) {
+            Integer source = vertexIds.get(edgeInfo.from);
+            Integer target = vertexIds.get(edgeInfo.to);
 
-        List<String> edgeObjects = splitObjects(arrayContent);
-        for (String edgeObj : edgeObjects) {
-            EdgeInfo edge = new EdgeInfo();
-            edge.from = parseStringValue(edgeObj, "from");
-            edge.to = parseStringValue(edgeObj, "to");
-            edge.weight = parseDoubleValue(edgeObj, "weight");
-            edges.add(edge);
+            if (source != null && target != null) {
+                builder.edge(source, target, edgeInfo.weight);
+            }
         }
 
-        return edges;
+        return builder.build();
     }
 
-    private static String parseStringValue(String json, String key) {
-        String pattern = "\"" + key + "\"";
-        int keyIndex = json.indexOf(pattern);
-        if (keyIndex == -1) return "";
-
-        int colonIndex = json.indexOf(":", keyIndex);
-        int firstQuote = json.indexOf("\"", colonIndex);
-        int secondQuote = json.indexOf("\"", firstQuote + 1);
 
-        return json.substring(firstQuote + 1, secondQuote);
-    }
-
-    private static double parseDoubleValue(String json, String key) {
-        String pattern = "\"" + key + "\"";
-        int keyIndex = json.indexOf(pattern);
-        if (keyIndex == -1) return 0.0;
-
-        int colonIndex = json.indexOf(":", keyIndex);
-        int commaIndex = json.indexOf(",", colonIndex);
-        int braceIndex = json.indexOf("}", colonIndex);
-
-        int endIndex = (commaIndex != -1 && (braceIndex == -1 || commaIndex < braceIndex))
-                ? commaIndex : braceIndex;
-
-        String valueStr = json.substring(colonIndex + 1, endIndex).trim();
-        return Double.parseDouble(valueStr);
-    }
-
-    private static List<String> splitObjects(String arrayContent) {
-        List<String> objects = new ArrayList<>();
-        int depth = 0;
-        int start = -1;
-
-        for (int i = 0; i < arrayContent.length(); i++) {
-            char c = arrayContent.charAt(i);
-
-            if (c == '{') {
-                if (depth == 0) start = i;
-                depth++;
-            } else if (c == '}') {
-                depth--;
-                if (depth == 0 && start != -1) {
-                    objects.add(arrayContent.substring(start, i + 1));
-                    start = -1;
-                }
+//  === output ===
+    public static void writeOutput(String filePath, List<GraphResult> results) throws IOException {
+        try (JsonResultWriter writer = JsonResultWriter.open(filePath)) {
+            for (GraphResult result : results) {
+                writer.write(result);
             }
         }
-
-        return objects;
     }
 
-    private static int findMatchingBracket(String json, int start, char open, char close) {
-        int depth = 1;
-        for (int i = start + 1; i < json.length(); i++) {
-            if (json.charAt(i) == open) depth++;
-            else if (json.charAt(i) == close) {
-                depth--;
-                if (depth == 0) return i;
-            }
-        }
-        return json.length();
+//    open file for result by result streaming, caller closes the writer
+    public static JsonResultWriter openOutput(String filePath) throws IOException {
+        return JsonResultWriter.open(filePath);
     }
-}
\ No newline at end of file
+}
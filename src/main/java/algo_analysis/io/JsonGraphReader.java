@@ -0,0 +1,136 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.NoSuchElementException;
+
+/**
+ * Streams GraphData out of the "graphs" array of an input file one graph at a time
+ * Only the graph currently being parsed is held in memory
+ */
+public class JsonGraphReader implements GraphSource {
+    private final JsonStreamReader json;
+    private boolean finished;
+
+    public JsonGraphReader(Reader reader) throws IOException {
+        this.json = new JsonStreamReader(reader);
+        seekGraphsArray();
+    }
+
+    public static JsonGraphReader open(String filePath) throws IOException {
+        Reader reader = Files.newBufferedReader(Paths.get(filePath), StandardCharsets.UTF_8);
+        try {
+            return new JsonGraphReader(reader);
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (finished) {
+            return false;
+        }
+        try {
+            if (json.hasNext()) {
+                return true;
+            }
+            json.endArray();
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public GraphData next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more graphs.");
+        }
+        try {
+            return readGraph();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        json.close();
+    }
+
+    private void seekGraphsArray() throws IOException {
+        json.beginObject();
+        while (json.hasNext()) {
+            if (json.nextName().equals("graphs")) {
+                json.beginArray();
+                return;
+            }
+            json.skipValue();
+        }
+        throw new IOException("Invalid JSON: 'graphs' array not found");
+    }
+
+    private GraphData readGraph() throws IOException {
+        GraphData data = new GraphData();
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "id":
+                    data.id = json.nextInt();
+                    break;
+                case "nodes":
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        data.nodes.add(json.nextString());
+                    }
+                    json.endArray();
+                    break;
+                case "edges":
+                    json.beginArray();
+                    while (json.hasNext()) {
+                        data.edges.add(readEdge());
+                    }
+                    json.endArray();
+                    break;
+                default:
+                    json.skipValue();
+            }
+        }
+        json.endObject();
+
+        return data;
+    }
+
+    private EdgeInfo readEdge() throws IOException {
+        EdgeInfo edge = new EdgeInfo();
+
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "from":
+                    edge.from = json.nextString();
+                    break;
+                case "to":
+                    edge.to = json.nextString();
+                    break;
+                case "weight":
+                    edge.weight = json.nextDouble();
+                    break;
+                default:
+                    json.skipValue();
+            }
+        }
+        json.endObject();
+
+        return edge;
+    }
+}
@@ -0,0 +1,130 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.function.IntFunction;
+
+/**
+ * Streams graphs in the input.json layout, edge by edge
+ * A graph is written with beginGraph, any number of edge calls and endGraph,
+ * so generated graphs never have to exist in memory
+ */
+public class JsonInputWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Writer writer;
+    private IntFunction<String> names;
+    private boolean firstGraph = true;
+    private boolean firstEdge = true;
+    private boolean inGraph = false;
+    private boolean closed = false;
+
+    public JsonInputWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write("{\n");
+        writer.write("  \"graphs\": [\n");
+    }
+
+    public static JsonInputWriter open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            return new JsonInputWriter(writer);
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+//    start a graph, names maps vertex ids 0..vertexCount-1 to node names
+    public void beginGraph(int id, int vertexCount, IntFunction<String> names) throws IOException {
+        if (inGraph) {
+            throw new IllegalStateException("Previous graph is not finished.");
+        }
+        inGraph = true;
+        firstEdge = true;
+        this.names = names;
+
+        if (!firstGraph) {
+            writer.write(",\n");
+        }
+        firstGraph = false;
+
+        writer.write("    {\n");
+        writer.write("      \"id\": ");
+        writer.write(Integer.toString(id));
+        writer.write(",\n");
+        writer.write("      \"nodes\": [");
+        for (int v = 0; v < vertexCount; v++) {
+            if (v > 0) {
+                writer.write(", ");
+            }
+            JsonText.writeString(writer, names.apply(v));
+        }
+        writer.write("],\n");
+        writer.write("      \"edges\": [");
+    }
+
+    public void edge(int source, int target, double weight) throws IOException {
+        edge(names.apply(source), names.apply(target), weight);
+    }
+
+    public void edge(String from, String to, double weight) throws IOException {
+        if (!inGraph) {
+            throw new IllegalStateException("No graph started.");
+        }
+        writer.write(firstEdge ? "\n" : ",\n");
+        firstEdge = false;
+
+        writer.write("        {\"from\": ");
+        JsonText.writeString(writer, from);
+        writer.write(", \"to\": ");
+        JsonText.writeString(writer, to);
+        writer.write(", \"weight\": ");
+        writer.write(Double.toString(weight));
+        writer.write("}");
+    }
+
+    public void endGraph() throws IOException {
+        if (!inGraph) {
+            throw new IllegalStateException("No graph started.");
+        }
+        inGraph = false;
+        writer.write(firstEdge ? "]\n" : "\n      ]\n");
+        writer.write("    }");
+    }
+
+//    write a whole graph that is already in memory
+    public void write(GraphData data) throws IOException {
+        beginGraph(data.id, data.nodes.size(), data.nodes::get);
+        for (EdgeInfo edge : data.edges) {
+            edge(edge.from, edge.to, edge.weight);
+        }
+        endGraph();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            if (inGraph) {
+                endGraph();
+            }
+            writer.write(firstGraph ? "  ]\n}\n" : "\n  ]\n}\n");
+        } finally {
+            writer.close();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.ComponentResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphResult;
+import algo_analysis.dto.TrialStats;
+
+import java.io.*;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Streams GraphResults into the output file as they are produced
+ * The "results" array is opened on construction and closed by close(),
+ * nothing but the current result is kept in memory
+ */
+public class JsonResultWriter implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 20;
+
+    private final Writer writer;
+    private boolean first = true;
+    private boolean closed = false;
+    private Map<String, ? extends Number> cacheStats;
+
+    public JsonResultWriter(Writer writer) throws IOException {
+        this.writer = writer;
+        writer.write("{\n");
+        writer.write("  \"results\": [\n");
+    }
+
+    public static JsonResultWriter open(String filePath) throws IOException {
+        FileChannel channel = FileChannel.open(Paths.get(filePath),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(Channels.newOutputStream(channel), StandardCharsets.UTF_8), BUFFER_SIZE);
+        try {
+            return new JsonResultWriter(writer);
+        } catch (IOException e) {
+            writer.close();
+            throw e;
+        }
+    }
+
+    public void write(GraphResult result) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("Writer is closed.");
+        }
+        if (!first) {
+            writer.write(",\n");
+        }
+        first = false;
+
+        writer.write("    {\n");
+        writer.write("      \"graph_id\": ");
+        writer.write(Integer.toString(result.graphId));
+        writer.write(",\n");
+        if (result.cacheStatus != null) {
+            writer.write("      \"cache\": ");
+            JsonText.writeString(writer, result.cacheStatus);
+            writer.write(",\n");
+        }
+        writer.write("      \"input_stats\": {\n");
+        writer.write("        \"vertices\": ");
+        writer.write(Integer.toString(result.vertices));
+        writer.write(",\n");
+        writer.write("        \"edges\": ");
+        writer.write(Integer.toString(result.edges));
+        writer.write(",\n");
+        writer.write("        \"components\": ");
+        writer.write(Integer.toString(result.components));
+        writer.write(",\n");
+        writer.write("        \"largest_component\": ");
+        writer.write(Integer.toString(result.largestComponent));
+        writer.write("\n");
+        writer.write("      }");
+
+        // one section per algorithm that ran, with --auto only the selected engine
+        writeSection("prim", result.primResult, null, null);
+        writeSection("prim_heap", result.primHeapResult, "heap", result.primHeap);
+        writeSection("kruskal", result.kruskalResult, null, null);
+        writeSection("boruvka", result.boruvkaResult, null, null);
+        writeSection("auto", result.autoResult, "engine", result.autoEngine);
+        // spanning forest, present for disconnected graphs
+        writeSection("spanning_forest", result.forestResult, null, null);
+        writer.write("\n");
+        writer.write("    }");
+    }
+
+//    result cache counters, written after the results array on close
+    public void setCacheStats(Map<String, ? extends Number> cacheStats) {
+        this.cacheStats = cacheStats;
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            writer.write(first ? "  ]" : "\n  ]");
+            if (cacheStats != null) {
+                writer.write(",\n");
+                writeNumberMap("cache", cacheStats, "");
+            }
+            writer.write("\n}\n");
+        } finally {
+            writer.close();
+        }
+    }
+
+//    ,"name": {...} for a result that is present, an optional "key": "label" line comes first
+//    (the engine of the auto section, the heap of the prim_heap section)
+    private void writeSection(String name, AlgorithmResult result, String key, String label) throws IOException {
+        if (result == null) {
+            return;
+        }
+        writer.write(",\n      ");
+        JsonText.writeString(writer, name);
+        writer.write(": {\n");
+        if (label != null) {
+            writer.write("        ");
+            JsonText.writeString(writer, key);
+            writer.write(": ");
+            JsonText.writeString(writer, label);
+            writer.write(",\n");
+        }
+        writeAlgorithmResult(result, "      ");
+        writer.write("      }");
+    }
+
+//    write algo result
+    private void writeAlgorithmResult(AlgorithmResult result, String indent) throws IOException {
+        writer.write(indent);
+        writer.write("  \"mst_edges\": [\n");
+        writeEdges(result.mstEdges, indent + "    ");
+        writer.write(indent);
+        writer.write("  ],\n");
+        writer.write(indent);
+        writer.write("  \"total_cost\": ");
+        writer.write(Double.toString(result.totalCost));
+        writer.write(",\n");
+        writer.write(indent);
+        writer.write("  \"operations_count\": ");
+        writer.write(Long.toString(result.operationsCount));
+        writer.write(",\n");
+        writer.write(indent);
+        writer.write("  \"execution_time_ms\": ");
+        writer.write(Double.toString(result.executionTimeMs));
+        writer.write(",\n");
+        writeLong("allocated_bytes", result.allocatedBytes, indent);
+        writer.write(",\n");
+        writeLong("gc_count", result.gcCount, indent);
+        writer.write(",\n");
+        writeLong("gc_time_ms", result.gcTimeMs, indent);
+        writer.write(",\n");
+        writeLong("peak_heap_bytes", result.peakHeapBytes, indent);
+
+        if (result.operationBreakdown != null && !result.operationBreakdown.isEmpty()) {
+            writer.write(",\n");
+            writeNumberMap("operation_breakdown", result.operationBreakdown, indent);
+        }
+        if (result.phaseTimesMs != null && !result.phaseTimesMs.isEmpty()) {
+            writer.write(",\n");
+            writeNumberMap("phase_times_ms", result.phaseTimesMs, indent);
+        }
+        if (result.components != null && !result.components.isEmpty()) {
+            writer.write(",\n");
+            writeComponents(result.components, indent);
+        }
+        if (result.trialStats != null) {
+            writer.write(",\n");
+            writeTrials(result.trialStats, indent);
+        }
+        writer.write("\n");
+    }
+
+    private void writeEdges(List<EdgeInfo> edges, String indent) throws IOException {
+        for (int i = 0; i < edges.size(); i++) {
+            EdgeInfo edge = edges.get(i);
+            writer.write(indent);
+            writer.write("{\"from\": ");
+            JsonText.writeString(writer, edge.from);
+            writer.write(", \"to\": ");
+            JsonText.writeString(writer, edge.to);
+            writer.write(", \"weight\": ");
+            writer.write(Double.toString(edge.weight));
+            writer.write(i < edges.size() - 1 ? "},\n" : "}\n");
+        }
+    }
+
+//    one tree per component with its own cost and edges
+    private void writeComponents(List<ComponentResult> components, String indent) throws IOException {
+        writer.write(indent);
+        writer.write("  \"components\": [\n");
+        for (int c = 0; c < components.size(); c++) {
+            ComponentResult component = components.get(c);
+            writer.write(indent);
+            writer.write("    {\"vertices\": ");
+            writer.write(Integer.toString(component.vertices));
+            writer.write(", \"total_cost\": ");
+            writer.write(Double.toString(component.totalCost));
+            writer.write(", \"mst_edges\": [");
+            if (component.mstEdges.isEmpty()) {
+                writer.write("]");
+            } else {
+                writer.write("\n");
+                writeEdges(component.mstEdges, indent + "      ");
+                writer.write(indent);
+                writer.write("    ]");
+            }
+            writer.write(c < components.size() - 1 ? "},\n" : "}\n");
+        }
+        writer.write(indent);
+        writer.write("  ]");
+    }
+
+    private void writeLong(String name, long value, String indent) throws IOException {
+        writer.write(indent);
+        writer.write("  \"");
+        writer.write(name);
+        writer.write("\": ");
+        writer.write(Long.toString(value));
+    }
+
+//    benchmark mode timings as a one line object
+    private void writeTrials(TrialStats stats, String indent) throws IOException {
+        Map<String, Number> values = new LinkedHashMap<>();
+        values.put("warmup", stats.warmup);
+        values.put("count", stats.trials);
+        values.put("min_ms", stats.minMs);
+        values.put("median_ms", stats.medianMs);
+        values.put("p90_ms", stats.p90Ms);
+        values.put("p99_ms", stats.p99Ms);
+        values.put("mean_ms", stats.meanMs);
+        values.put("stddev_ms", stats.stddevMs);
+        values.put("ops_per_sec", stats.opsPerSec);
+        writeNumberMap("trials", values, indent);
+    }
+
+//    one line object of numbers, e.g. "phase_times_ms": {"sort": 1.5, "main_loop": 3.2}
+    private void writeNumberMap(String name, Map<String, ? extends Number> values, String indent) throws IOException {
+        writer.write(indent);
+        writer.write("  ");
+        JsonText.writeString(writer, name);
+        writer.write(": {");
+        boolean firstEntry = true;
+        for (Map.Entry<String, ? extends Number> entry : values.entrySet()) {
+            if (!firstEntry) {
+                writer.write(", ");
+            }
+            firstEntry = false;
+            JsonText.writeString(writer, entry.getKey());
+            writer.write(": ");
+            writer.write(entry.getValue().toString());
+        }
+        writer.write("}");
+    }
+}
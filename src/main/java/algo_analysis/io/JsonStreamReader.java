@@ -0,0 +1,229 @@
+package algo_analysis.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Minimal single-pass JSON pull parser over a Reader
+ * Reads straight from its own char buffer, so the document is never held in memory.
+ * Commas and colons are treated as separators, structure is checked through the
+ * begin/end calls made by the caller.
+ */
+class JsonStreamReader implements Closeable {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder token = new StringBuilder();
+    private int pos;
+    private int limit;
+    private long offset;
+
+    JsonStreamReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    void beginObject() throws IOException {
+        expect('{');
+    }
+
+    void endObject() throws IOException {
+        expect('}');
+    }
+
+    void beginArray() throws IOException {
+        expect('[');
+    }
+
+    void endArray() throws IOException {
+        expect(']');
+    }
+
+//    true while the current object or array has more elements
+    boolean hasNext() throws IOException {
+        int c = peek();
+        return c != '}' && c != ']' && c != -1;
+    }
+
+    String nextName() throws IOException {
+        return nextString();
+    }
+
+    String nextString() throws IOException {
+        int c = peek();
+        if (c != '"') {
+            // tolerate bare numbers and literals where a string is expected
+            return nextLiteral();
+        }
+        pos++;
+
+        token.setLength(0);
+        while (true) {
+            c = read();
+            if (c == -1) {
+                throw error("Unterminated string");
+            }
+            if (c == '"') {
+                return token.toString();
+            }
+            if (c == '\\') {
+                token.append(readEscape());
+            } else {
+                token.append((char) c);
+            }
+        }
+    }
+
+    double nextDouble() throws IOException {
+        String literal = nextLiteral();
+        try {
+            return Double.parseDouble(literal);
+        } catch (NumberFormatException e) {
+            throw error("Expected a number but was '" + literal + "'");
+        }
+    }
+
+    int nextInt() throws IOException {
+        String literal = nextLiteral();
+        try {
+            return Integer.parseInt(literal);
+        } catch (NumberFormatException e) {
+            double value;
+            try {
+                value = Double.parseDouble(literal);
+            } catch (NumberFormatException inner) {
+                throw error("Expected an integer but was '" + literal + "'");
+            }
+            if (value != Math.rint(value)) {
+                throw error("Expected an integer but was '" + literal + "'");
+            }
+            return (int) value;
+        }
+    }
+
+//    skip one value of any type including nested objects and arrays
+    void skipValue() throws IOException {
+        int c = peek();
+        if (c == '{' || c == '[') {
+            pos++;
+            int depth = 1;
+            while (depth > 0) {
+                c = peek();
+                if (c == -1) {
+                    throw error("Unterminated object or array");
+                }
+                if (c == '"') {
+                    nextString();
+                } else {
+                    pos++;
+                    if (c == '{' || c == '[') depth++;
+                    else if (c == '}' || c == ']') depth--;
+                }
+            }
+        } else if (c == '"') {
+            nextString();
+        } else {
+            nextLiteral();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextLiteral() throws IOException {
+        int c = peek();
+        token.setLength(0);
+        while (c != -1 && !isDelimiter(c)) {
+            token.append((char) c);
+            pos++;
+            c = pos < limit ? buffer[pos] : fill() ? buffer[pos] : -1;
+        }
+        if (token.length() == 0) {
+            throw error("Expected a value");
+        }
+        return token.toString();
+    }
+
+    private char readEscape() throws IOException {
+        int c = read();
+        switch (c) {
+            case '"': return '"';
+            case '\\': return '\\';
+            case '/': return '/';
+            case 'b': return '\b';
+            case 'f': return '\f';
+            case 'n': return '\n';
+            case 'r': return '\r';
+            case 't': return '\t';
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit == -1) {
+                        throw error("Invalid unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            default:
+                throw error("Invalid escape sequence");
+        }
+    }
+
+    private void expect(char expected) throws IOException {
+        int c = peek();
+        if (c != expected) {
+            throw error("Expected '" + expected + "' but was " + describe(c));
+        }
+        pos++;
+    }
+
+//    next significant char without consuming it, separators and whitespace are skipped
+    private int peek() throws IOException {
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return -1;
+            }
+            char c = buffer[pos];
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t' || c == ',' || c == ':') {
+                pos++;
+            } else {
+                return c;
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    private boolean fill() throws IOException {
+        offset += limit;
+        pos = 0;
+        limit = reader.read(buffer, 0, buffer.length);
+        if (limit <= 0) {
+            limit = 0;
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isDelimiter(int c) {
+        return c == ',' || c == ':' || c == '}' || c == ']' || c == '{' || c == '['
+                || c == '"' || c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static String describe(int c) {
+        return c == -1 ? "end of input" : "'" + (char) c + "'";
+    }
+
+    private IOException error(String message) {
+        return new IOException("Invalid JSON at character " + (offset + pos) + ": " + message);
+    }
+}
@@ -0,0 +1,42 @@
+package algo_analysis.io;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Shared JSON text helpers for the writers in this package
+ */
+final class JsonText {
+
+    private JsonText() {}
+
+//    quoted json string with escaping of quotes, backslashes and control chars
+    static void writeString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String escape;
+            if (c == '"') {
+                escape = "\\\"";
+            } else if (c == '\\') {
+                escape = "\\\\";
+            } else if (c == '\n') {
+                escape = "\\n";
+            } else if (c == '\r') {
+                escape = "\\r";
+            } else if (c == '\t') {
+                escape = "\\t";
+            } else if (c < 0x20) {
+                escape = String.format("\\u%04x", (int) c);
+            } else {
+                continue;
+            }
+            writer.write(value, start, i - start);
+            writer.write(escape);
+            start = i + 1;
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+}
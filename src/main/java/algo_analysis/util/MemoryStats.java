@@ -0,0 +1,131 @@
+package algo_analysis.util;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+/**
+ * Reads allocation, GC and heap figures from the platform management beans.
+ * Allocated bytes are per thread. GC and peak heap figures are JVM wide, so they only
+ * describe a run that had the JVM to itself: beginRun / endRun track the measured runs and
+ * report whether another one overlapped, and setJvmWideReadings(false) turns the JVM wide
+ * figures off for callers that do other work concurrently (a batch with several threads).
+ * Every reading is -1 when the JVM does not support it.
+ */
+public final class MemoryStats {
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final List<GarbageCollectorMXBean> COLLECTORS = ManagementFactory.getGarbageCollectorMXBeans();
+    private static final List<MemoryPoolMXBean> POOLS = ManagementFactory.getMemoryPoolMXBeans();
+
+    private static final Object RUNS_LOCK = new Object();
+    private static int activeRuns;
+    private static long runStarts;
+    private static volatile boolean jvmWideReadings = true;
+
+    private MemoryStats() {}
+
+//    false while the JVM runs unmeasured work alongside the measured runs
+    public static void setJvmWideReadings(boolean enabled) {
+        jvmWideReadings = enabled;
+    }
+
+    public static boolean isJvmWideReadings() {
+        return jvmWideReadings;
+    }
+
+    /**
+     * Register a measured run, returns a token for endRun
+     * The token is -1 if another run is active, otherwise heap peaks are reset for this run,
+     * nobody else is measuring at that moment so the reset can't disturb another reading.
+     */
+    public static long beginRun() {
+        synchronized (RUNS_LOCK) {
+            activeRuns++;
+            runStarts++;
+            if (!jvmWideReadings || activeRuns > 1) {
+                return -1;
+            }
+            resetPeakHeap();
+            return runStarts;
+        }
+    }
+
+//    true when no other run started or was active since beginRun, JVM wide figures are then the run's own
+    public static boolean endRun(long token) {
+        synchronized (RUNS_LOCK) {
+            activeRuns--;
+            return token >= 0 && token == runStarts && jvmWideReadings;
+        }
+    }
+
+//    bytes allocated so far by the calling thread
+    public static long threadAllocatedBytes() {
+        if (THREADS == null) {
+            return -1;
+        }
+        return THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+//    collections of all collectors since JVM start
+    public static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            long count = collector.getCollectionCount();
+            if (count < 0) {
+                return -1;
+            }
+            total += count;
+        }
+        return total;
+    }
+
+//    accumulated collection time in ms of all collectors since JVM start
+    public static long gcTimeMs() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            long time = collector.getCollectionTime();
+            if (time < 0) {
+                return -1;
+            }
+            total += time;
+        }
+        return total;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : POOLS) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                pool.resetPeakUsage();
+            }
+        }
+    }
+
+//    sum of the heap pool peaks since the last reset
+    public static long peakHeapBytes() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : POOLS) {
+            if (pool.getType() == MemoryType.HEAP && pool.isValid()) {
+                total += pool.getPeakUsage().getUsed();
+            }
+        }
+        return total;
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemorySupported()) {
+            return null;
+        }
+        if (!threads.isThreadAllocatedMemoryEnabled()) {
+            threads.setThreadAllocatedMemoryEnabled(true);
+        }
+        return threads;
+    }
+}
@@ -1,67 +1,259 @@
 package algo_analysis.util;
 
+import algo_analysis.dto.AlgorithmResult;
 
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Wall clock time, operation counters by category and phase timings for one algorithm run.
+ * Counters are plain long slots indexed by enum ordinal. Instances are not thread safe,
+ * parallel code should count locally and add the total once.
+ *
+ * start() and stop() also take allocation, GC and peak heap readings from MemoryStats,
+ * outside the timed interval. Allocation is counted for the calling thread only. GC and
+ * peak heap are JVM wide and reported as -1 when another measured run overlapped this one
+ * (see MemoryStats.beginRun).
+ *
+ * Counting can be switched off with -Dalgo_analysis.metrics.counters=false, create() then
+ * hands out a no-op subclass. timingOnly() always hands out the no-op subclass, so loops
+ * shared by both kinds of caller (Prim's heap loops behind findMST and findMSTEdges) see
+ * two implementations and pay a virtual call per count. With counting switched off every
+ * caller gets the no-op subclass and the JIT can inline the empty methods away.
+ */
 public class PerformanceMetrics {
-    private int operationsCount;
+
+    public enum Counter {
+        EDGE_EXAMINATIONS,
+        COMPARISONS,
+        FINDS,
+        FIND_STEPS,
+        UNIONS,
+        HEAP_OPERATIONS,
+        HEAP_STEPS,
+        SORTED_EDGES
+    }
+
+    public enum Phase {
+        BUILD,
+        SORT,
+        MAIN_LOOP
+    }
+
+    private static final boolean COUNTERS_ENABLED =
+            Boolean.parseBoolean(System.getProperty("algo_analysis.metrics.counters", "true"));
+
+    private static final Counter[] COUNTERS = Counter.values();
+    private static final Phase[] PHASES = Phase.values();
+
+    private final long[] counts = new long[COUNTERS.length];
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final long[] phaseStart = new long[PHASES.length];
     private long startTime;
     private long endTime;
     private boolean isRunning;
 
+    private long runToken;
+    private long startAllocated;
+    private long startGcCount;
+    private long startGcTime;
+    private long allocatedBytes;
+    private long gcCount;
+    private long gcTimeMs;
+    private long peakHeapBytes;
+
     public PerformanceMetrics() {
-        this.operationsCount = 0;
         this.startTime = 0;
         this.endTime = 0;
         this.isRunning = false;
     }
 
+//    metrics for a new run, counters follow the algo_analysis.metrics.counters property
+    public static PerformanceMetrics create() {
+        return COUNTERS_ENABLED ? new PerformanceMetrics() : new NoOpMetrics();
+    }
+
+//    metrics that only measure time, every counter call is a no-op
+    public static PerformanceMetrics timingOnly() {
+        return new NoOpMetrics();
+    }
+
+    public static boolean countersEnabled() {
+        return COUNTERS_ENABLED;
+    }
+
     public void start() {
+        if (isRunning) {
+            // restarted without stop, the earlier run is not measured any more
+            MemoryStats.endRun(runToken);
+        }
+        reset();
+        this.runToken = MemoryStats.beginRun();
+        this.startGcCount = MemoryStats.gcCount();
+        this.startGcTime = MemoryStats.gcTimeMs();
+        this.startAllocated = MemoryStats.threadAllocatedBytes();
         this.startTime = System.nanoTime();
         this.isRunning = true;
-        this.operationsCount = 0;
     }
 
     public void stop() {
         if (isRunning) {
             this.endTime = System.nanoTime();
             this.isRunning = false;
+
+            long allocated = MemoryStats.threadAllocatedBytes();
+            this.allocatedBytes = allocated < 0 || startAllocated < 0 ? -1 : allocated - startAllocated;
+            long collections = MemoryStats.gcCount();
+            long collectionTime = MemoryStats.gcTimeMs();
+            long peak = MemoryStats.peakHeapBytes();
+            if (!MemoryStats.endRun(runToken)) {
+                // other runs shared the JVM, its GC and heap figures aren't this run's
+                this.gcCount = -1;
+                this.gcTimeMs = -1;
+                this.peakHeapBytes = -1;
+                return;
+            }
+            this.gcCount = collections < 0 || startGcCount < 0 ? -1 : collections - startGcCount;
+            this.gcTimeMs = collectionTime < 0 || startGcTime < 0 ? -1 : collectionTime - startGcTime;
+            this.peakHeapBytes = peak;
+        }
+    }
+
+    public void increment(Counter counter) {
+        counts[counter.ordinal()]++;
+    }
+
+    public void add(Counter counter, long n) {
+        counts[counter.ordinal()] += n;
+    }
+
+    public void startPhase(Phase phase) {
+        phaseStart[phase.ordinal()] = System.nanoTime();
+    }
+
+//    phases accumulate, so a phase may be entered several times per run
+    public void endPhase(Phase phase) {
+        phaseNanos[phase.ordinal()] += System.nanoTime() - phaseStart[phase.ordinal()];
+    }
+
+    public boolean isCounting() {
+        return true;
+    }
+
+    public long getCount(Counter counter) {
+        return counts[counter.ordinal()];
+    }
+
+//    sum over all counters
+    public long getOperationsCount() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
         }
+        return total;
     }
 
-    public void incrementOperations() {
-        this.operationsCount++;
+    public double getPhaseTimeMs(Phase phase) {
+        return phaseNanos[phase.ordinal()] / 1_000_000.0;
     }
 
-    public void incrementOperations(int n) {
-        this.operationsCount += n;
+//    non-zero counters keyed by lower case name, in declaration order
+    public Map<String, Long> getOperationBreakdown() {
+        Map<String, Long> breakdown = new LinkedHashMap<>();
+        for (Counter counter : COUNTERS) {
+            if (counts[counter.ordinal()] != 0) {
+                breakdown.put(counter.name().toLowerCase(), counts[counter.ordinal()]);
+            }
+        }
+        return breakdown;
+    }
+
+//    phases that were entered, keyed by lower case name
+    public Map<String, Double> getPhaseTimesMs() {
+        Map<String, Double> times = new LinkedHashMap<>();
+        for (Phase phase : PHASES) {
+            if (phaseNanos[phase.ordinal()] != 0) {
+                times.put(phase.name().toLowerCase(), getPhaseTimeMs(phase));
+            }
+        }
+        return times;
     }
 
-    public int getOperationsCount() {
-        return this.operationsCount;
+//    copy totals, memory readings, breakdown and phase timings into an algorithm result
+    public void record(AlgorithmResult result) {
+        result.operationsCount = getOperationsCount();
+        result.executionTimeMs = getExecutionTimeMs();
+        result.allocatedBytes = allocatedBytes;
+        result.gcCount = gcCount;
+        result.gcTimeMs = gcTimeMs;
+        result.peakHeapBytes = peakHeapBytes;
+        result.operationBreakdown = getOperationBreakdown();
+        result.phaseTimesMs = getPhaseTimesMs();
     }
 
     public double getExecutionTimeMs() {
-        long duration = isRunning ? (System.nanoTime() - startTime) : (endTime - startTime);
-        return duration / 1_000_000.0;
+        return getExecutionTimeNs() / 1_000_000.0;
     }
 
     public long getExecutionTimeNs() {
         return isRunning ? (System.nanoTime() - startTime) : (endTime - startTime);
     }
 
+//    bytes allocated by the measuring thread between start and stop
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
     public void reset() {
-        this.operationsCount = 0;
+        Arrays.fill(counts, 0);
+        Arrays.fill(phaseNanos, 0);
         this.startTime = 0;
         this.endTime = 0;
         this.isRunning = false;
+        this.allocatedBytes = 0;
+        this.gcCount = 0;
+        this.gcTimeMs = 0;
+        this.peakHeapBytes = 0;
     }
 
     public String getSummary() {
         return String.format("Operations: %d, Time: %.2f ms",
-                operationsCount, getExecutionTimeMs());
+                getOperationsCount(), getExecutionTimeMs());
     }
 
     @Override
     public String toString() {
         return getSummary();
     }
+
+    /**
+     * Keeps wall clock and phase timing, drops every counter update
+     */
+    private static final class NoOpMetrics extends PerformanceMetrics {
+        @Override
+        public void increment(Counter counter) {
+        }
+
+        @Override
+        public void add(Counter counter, long n) {
+        }
+
+        @Override
+        public boolean isCounting() {
+            return false;
+        }
+    }
 }
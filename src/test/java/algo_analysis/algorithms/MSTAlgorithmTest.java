@@ -2,17 +2,40 @@ package algo_analysis.algorithms;
 
 
 import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.ComponentResult;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.DenseGraph;
 import algo_analysis.entity.Edge;
 import algo_analysis.entity.Graph;
 import algo_analysis.entity.Vertex;
+import algo_analysis.generator.GeneratedGraph;
+import algo_analysis.generator.GraphGenerator;
+import algo_analysis.util.PerformanceMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.DoubleUnaryOperator;
 
 
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MSTAlgorithmTest {
+    @TempDir
+    Path tempDir;
+
     private Graph<String> simpleGraph;
     private Graph<String> complexGraph;
     private Graph<String> disconnectedGraph;
@@ -91,6 +114,21 @@ public class MSTAlgorithmTest {
         return graph;
     }
 
+//    seeded random CSR graph on V0..Vn-1 with about m edges and integer weights in [1, maxWeight],
+//    connected adds a random spanning tree first, weight maps every generated weight
+    private static CsrGraph<String> randomCsr(long seed, int n, long m, boolean connected, int maxWeight,
+                                              DoubleUnaryOperator weight) throws IOException {
+        GeneratedGraph graph = new GeneratedGraph(n, (int) m);
+        new GraphGenerator(seed, maxWeight).random(n, m, connected,
+                (source, target, w) -> graph.edge(source, target, weight.applyAsDouble(w)));
+        return graph.toCsrGraph();
+    }
+
+    private static CsrGraph<String> randomCsr(long seed, int n, long m, boolean connected, int maxWeight)
+            throws IOException {
+        return randomCsr(seed, n, m, connected, maxWeight, w -> w);
+    }
+
     // Prim algo
 
     @Test
@@ -145,6 +183,42 @@ public class MSTAlgorithmTest {
         assertEquals(0, result.mstEdges.size(), "Empty graph have 0 edges");
     }
 
+    @Test
+    @DisplayName("Prim heap strategies: same cost as edge scan")
+    void testPrimHeapStrategiesCost() {
+        for (PrimAlgorithm.Strategy strategy : PrimAlgorithm.Strategy.values()) {
+            AlgorithmResult simple = PrimAlgorithm.findMST(simpleGraph, strategy);
+            AlgorithmResult complex = PrimAlgorithm.findMST(complexGraph, strategy);
+
+            assertEquals(6.0, simple.totalCost, 0.001, strategy + " MST cost is 6.0");
+            assertEquals(3, simple.mstEdges.size(), strategy + " MST 3 edges");
+            assertEquals(16.0, complex.totalCost, 0.001, strategy + " MST cost is 16.0");
+            assertEquals(4, complex.mstEdges.size(), strategy + " MST 4 edges");
+            assertTrue(complex.operationsCount > 0, strategy + " operations tracked");
+        }
+    }
+
+    @Test
+    @DisplayName("Prim heap strategies: strategy parses from its label")
+    void testPrimStrategyParse() {
+        assertEquals(PrimAlgorithm.Strategy.LAZY_HEAP, PrimAlgorithm.Strategy.parse("lazy"));
+        assertEquals(PrimAlgorithm.Strategy.EAGER_HEAP, PrimAlgorithm.Strategy.parse("eager-heap"));
+        assertEquals(PrimAlgorithm.Strategy.EDGE_SCAN, PrimAlgorithm.Strategy.parse("SCAN"));
+        assertThrows(IllegalArgumentException.class, () -> PrimAlgorithm.Strategy.parse("fibonacci"));
+    }
+
+    @Test
+    @DisplayName("Prim heap strategies: empty and disconnected graphs")
+    void testPrimHeapStrategiesEdgeCases() {
+        for (PrimAlgorithm.Strategy strategy : PrimAlgorithm.Strategy.values()) {
+            AlgorithmResult empty = PrimAlgorithm.findMST(new Graph<String>(), strategy);
+            assertEquals(0, empty.mstEdges.size(), strategy + " empty graph have 0 edges");
+
+            AlgorithmResult disconnected = PrimAlgorithm.findMST(disconnectedGraph, strategy);
+            assertEquals(1, disconnected.mstEdges.size(), strategy + " stops at first component");
+        }
+    }
+
     // kruskal
 
     @Test
@@ -202,6 +276,555 @@ public class MSTAlgorithmTest {
         assertEquals(0, result.mstEdges.size(), "Empty graph 0 edges");
     }
 
+    // csr
+
+    @Test
+    @DisplayName("CSR: Prim and Kruskal correct MST cost")
+    void testCsrGraphCost() {
+        CsrGraph<String> simple = CsrGraph.from(simpleGraph);
+        CsrGraph<String> complex = CsrGraph.from(complexGraph);
+
+        assertEquals(6.0, PrimAlgorithm.findMST(simple).totalCost, 0.001, "MST cost is 6.0");
+        assertEquals(6.0, KruskalAlgorithm.findMST(simple).totalCost, 0.001, "MST cost is 6.0");
+        assertEquals(16.0, PrimAlgorithm.findMST(complex).totalCost, 0.001, "MST cost is 16.0");
+        assertEquals(4, KruskalAlgorithm.findMST(complex).mstEdges.size(), "MST 4 edges");
+    }
+
+    @Test
+    @DisplayName("CSR: snapshot keeps counts and connectivity")
+    void testCsrGraphStructure() {
+        CsrGraph<String> complex = CsrGraph.from(complexGraph);
+        CsrGraph<String> disconnected = CsrGraph.from(disconnectedGraph);
+
+        assertEquals(5, complex.getVertexCount());
+        assertEquals(7, complex.getEdgeCount());
+        assertEquals(4, complex.degree(complex.getVertexId("C")), "C has 4 neighbors");
+        assertTrue(complex.isConnected());
+        assertFalse(disconnected.isConnected());
+        assertEquals(2, KruskalAlgorithm.findMST(disconnected).mstEdges.size(),
+                "Kruskal connects both components");
+    }
+
+    @Test
+    @DisplayName("CSR Kruskal: sort strategies give same MST")
+    void testCsrKruskalStrategies() {
+        CsrGraph<String> complex = CsrGraph.from(complexGraph);
+        for (KruskalAlgorithm.Strategy strategy : KruskalAlgorithm.Strategy.values()) {
+            AlgorithmResult result = KruskalAlgorithm.findMST(complex, strategy);
+            assertEquals(16.0, result.totalCost, 0.001, strategy + " MST cost is 16.0");
+            assertEquals(4, result.mstEdges.size(), strategy + " MST 4 edges");
+        }
+    }
+
+    @Test
+    @DisplayName("CSR Kruskal: strategies agree on a graph larger than the filter base case")
+    void testCsrKruskalStrategiesLargeGraph() throws IOException {
+        int n = 2_000;
+        // connected, 20k edges over 500 weights, so many weights repeat
+        CsrGraph<String> graph = randomCsr(7, n, 20_000, true, 500);
+
+        AlgorithmResult expected = KruskalAlgorithm.findMST(graph, KruskalAlgorithm.Strategy.COMPARATOR_SORT);
+        AlgorithmResult prim = PrimAlgorithm.findMST(graph);
+        assertEquals(n - 1, expected.mstEdges.size());
+        assertEquals(expected.totalCost, prim.totalCost, 0.001, "Prim agrees with Kruskal");
+
+        for (KruskalAlgorithm.Strategy strategy : KruskalAlgorithm.Strategy.values()) {
+            AlgorithmResult result = KruskalAlgorithm.findMST(graph, strategy);
+            assertEquals(expected.totalCost, result.totalCost, 0.001, strategy + " same MST cost");
+            assertEquals(n - 1, result.mstEdges.size(), strategy + " V-1 edges");
+        }
+
+        AlgorithmResult boruvka = BoruvkaAlgorithm.findMST(graph);
+        assertEquals(expected.totalCost, boruvka.totalCost, 0.001, "Boruvka agrees with Kruskal");
+        assertEquals(n - 1, boruvka.mstEdges.size(), "Boruvka V-1 edges");
+    }
+
+    // priority queues
+
+    @Test
+    @DisplayName("Heaps: every type always removes a minimum key")
+    void testHeapTypes() {
+        int n = 500;
+        for (IndexPriorityQueue.Type type : IndexPriorityQueue.Type.values()) {
+            Random random = new Random(11);
+            IndexPriorityQueue heap = IndexPriorityQueue.create(type, n);
+            // reference keys, NaN when the index is not in the queue
+            double[] keys = new double[n];
+            Arrays.fill(keys, Double.NaN);
+            int size = 0;
+
+            for (int step = 0; step < 20_000; step++) {
+                int index = random.nextInt(n);
+                int action = random.nextInt(3);
+                if (action == 0 && Double.isNaN(keys[index])) {
+                    // integer keys give ties, real keys go below zero
+                    keys[index] = random.nextBoolean() ? random.nextInt(100) : random.nextDouble() * 100 - 50;
+                    heap.insert(index, keys[index]);
+                    size++;
+                } else if (action == 1 && !Double.isNaN(keys[index])) {
+                    keys[index] -= random.nextInt(20);
+                    heap.decreaseKey(index, keys[index]);
+                } else if (action == 2 && size > 0) {
+                    double min = Double.POSITIVE_INFINITY;
+                    for (double key : keys) {
+                        if (key < min) {
+                            min = key;
+                        }
+                    }
+                    int removed = heap.deleteMin();
+                    assertEquals(min, keys[removed], 0.0, type + " minimum key removed");
+                    keys[removed] = Double.NaN;
+                    size--;
+                }
+                assertEquals(size, heap.size(), type + " same size");
+                assertEquals(!Double.isNaN(keys[index]), heap.contains(index), type + " contains");
+            }
+            assertTrue(heap.getSteps() > 0, type + " steps counted");
+
+            int free = 0;
+            while (heap.contains(free)) {
+                free++;
+            }
+            int absent = free;
+            heap.insert(absent, 1.0);
+            assertThrows(IllegalArgumentException.class, () -> heap.decreaseKey(absent, 2.0), type + " key increase");
+            assertThrows(IllegalArgumentException.class, () -> heap.insert(absent, 0.0), type + " duplicate index");
+        }
+    }
+
+    @Test
+    @DisplayName("Heaps: Prim gives the same MST on every heap type")
+    void testPrimHeapTypes() throws IOException {
+        int n = 3_000;
+        // integer weights, and signed fractional ones that spread over many exponents
+        CsrGraph<String> integral = randomCsr(5, n, 24_000, true, 1000);
+        CsrGraph<String> real = randomCsr(5, n, 24_000, true, 1000, w -> (w - 500.5) / 7.0);
+
+        for (CsrGraph<String> graph : List.of(integral, real)) {
+            double expected = KruskalAlgorithm.findMST(graph).totalCost;
+            for (IndexPriorityQueue.Type type : IndexPriorityQueue.Type.values()) {
+                AlgorithmResult result = PrimAlgorithm.findMST(graph, type);
+                assertEquals(expected, result.totalCost, 0.001, type + " same MST cost");
+                assertEquals(n - 1, result.mstEdges.size(), type + " V-1 edges");
+                assertTrue(result.operationBreakdown.get("heap_steps") > 0, type + " heap steps counted");
+
+                AlgorithmResult forest = SpanningForest.findMSF(graph, null, type);
+                assertEquals(expected, forest.totalCost, 0.001, type + " forest cost");
+            }
+        }
+
+        // eager Prim on the object graph takes the same heap types
+        for (IndexPriorityQueue.Type type : IndexPriorityQueue.Type.values()) {
+            AlgorithmResult result = PrimAlgorithm.findMST(complexGraph, PrimAlgorithm.Strategy.EAGER_HEAP, type);
+            assertEquals(16.0, result.totalCost, 0.001, type + " graph Prim cost");
+            assertEquals(4, PrimAlgorithm.findMSTEdges(complexGraph, PrimAlgorithm.Strategy.EAGER_HEAP, type).size());
+        }
+    }
+
+    @Test
+    @DisplayName("Heaps: heap type parses from its label")
+    void testHeapTypeParse() {
+        assertEquals(IndexPriorityQueue.Type.FOUR_ARY, IndexPriorityQueue.Type.parse("four-ary"));
+        assertEquals(IndexPriorityQueue.Type.RADIX, IndexPriorityQueue.Type.parse("radix"));
+        assertThrows(IllegalArgumentException.class, () -> IndexPriorityQueue.Type.parse("fibonacci"));
+        assertEquals(IndexPriorityQueue.Type.PAIRING, new MSTSelector(MSTCostModel.defaults(),
+                IndexPriorityQueue.Type.PAIRING).getHeapType());
+    }
+
+    // boruvka
+
+    @Test
+    @DisplayName("Boruvka: correct MST cost and edges")
+    void testBoruvkaCost() {
+        AlgorithmResult simple = BoruvkaAlgorithm.findMST(simpleGraph);
+        AlgorithmResult complex = BoruvkaAlgorithm.findMST(complexGraph);
+
+        assertEquals(6.0, simple.totalCost, 0.001, "MST cost is 6.0");
+        assertEquals(3, simple.mstEdges.size(), "MST 3 edges");
+        assertEquals(16.0, complex.totalCost, 0.001, "MST cost is 16.0");
+        assertEquals(4, complex.mstEdges.size(), "MST 4 edges");
+        assertTrue(complex.operationsCount > 0, "Operations count tracked");
+    }
+
+    @Test
+    @DisplayName("Boruvka: empty and disconnected graphs")
+    void testBoruvkaEdgeCases() {
+        AlgorithmResult empty = BoruvkaAlgorithm.findMST(new Graph<String>());
+        AlgorithmResult disconnected = BoruvkaAlgorithm.findMST(disconnectedGraph);
+
+        assertEquals(0, empty.mstEdges.size(), "Empty graph have 0 edges");
+        assertEquals(2, disconnected.mstEdges.size(), "Spanning forest of both components");
+        assertEquals(3.0, disconnected.totalCost, 0.001);
+    }
+
+    @Test
+    @DisplayName("EdgeSorter: radix sort orders negative, zero and fractional weights")
+    void testRadixSortOrder() {
+        double[] weights = {3.5, -2.0, 0.0, 1e-9, -0.5, 1e12, 3.5, -1e12, 7.0};
+        long[] keys = new long[weights.length];
+        int[] order = new int[weights.length];
+        for (int i = 0; i < weights.length; i++) {
+            keys[i] = EdgeSorter.sortableBits(weights[i]);
+            order[i] = i;
+        }
+
+        EdgeSorter.radixSort(keys, order);
+
+        for (int i = 1; i < order.length; i++) {
+            assertTrue(weights[order[i - 1]] <= weights[order[i]], "Weights in ascending order");
+        }
+        assertEquals(0, order[5], "Equal weights keep input order");
+        assertEquals(6, order[6], "Equal weights keep input order");
+    }
+
+    // int union find
+
+    @Test
+    @DisplayName("IntUnionFind: union and find on long chain")
+    void testIntUnionFindLongChain() {
+        int n = 200_000;
+        IntUnionFind uf = new IntUnionFind(n);
+        for (int i = 1; i < n; i++) {
+            assertTrue(uf.union(i - 1, i), "Chain links separate sets");
+        }
+
+        assertEquals(1, uf.getSetCount(), "All elements in one set");
+        assertTrue(uf.connected(0, n - 1));
+        assertFalse(uf.union(0, n - 1), "No union inside one set");
+    }
+
+    // connected components
+
+    @Test
+    @DisplayName("Components: sizes and numbering on a disconnected graph")
+    void testComponents() {
+        CsrGraph<String> graph = CsrGraph.from(disconnectedGraph);
+        ConnectedComponents components = ConnectedComponents.sequential(graph);
+
+        assertFalse(components.isConnected());
+        assertEquals(2, components.getCount());
+        assertEquals(graph.getVertexCount(), components.size(0) + components.size(1));
+        assertEquals(0, components.componentOf(0), "Vertex 0 opens the first component");
+        for (int c = 0; c < components.getCount(); c++) {
+            assertEquals(components.size(c), components.vertices(c).length);
+        }
+        assertTrue(ConnectedComponents.sequential(CsrGraph.from(complexGraph)).isConnected());
+    }
+
+    @Test
+    @DisplayName("Components: parallel union-find matches sequential search")
+    void testParallelComponents() throws IOException {
+        int n = 50_000;
+        CsrGraph<String> graph = randomCsr(5, n, 45_000, false, 1);
+
+        ConnectedComponents sequential = ConnectedComponents.sequential(graph);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        ConnectedComponents parallel;
+        try {
+            parallel = ConnectedComponents.parallel(graph, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertTrue(sequential.getCount() > 1);
+        assertEquals(sequential.getCount(), parallel.getCount());
+        assertArrayEquals(sequential.getSizes(), parallel.getSizes());
+        for (int v = 0; v < n; v++) {
+            assertEquals(sequential.componentOf(v), parallel.componentOf(v));
+        }
+    }
+
+    // spanning forest
+
+    @Test
+    @DisplayName("Forest: one tree per component with its own cost")
+    void testSpanningForest() {
+        AlgorithmResult forest = SpanningForest.findMSF(disconnectedGraph);
+
+        assertEquals(2, forest.components.size());
+        assertEquals(3.0, forest.totalCost);
+        assertEquals(2, forest.mstEdges.size());
+        for (ComponentResult component : forest.components) {
+            assertEquals(2, component.vertices);
+            assertEquals(1, component.mstEdges.size());
+            assertEquals(component.mstEdges.get(0).weight, component.totalCost);
+        }
+
+        AlgorithmResult connected = SpanningForest.findMSF(complexGraph);
+        assertEquals(1, connected.components.size());
+        assertEquals(KruskalAlgorithm.findMST(complexGraph).totalCost, connected.totalCost, 0.001);
+    }
+
+    @Test
+    @DisplayName("Forest: parallel components match sequential and Kruskal")
+    void testParallelSpanningForest() throws IOException {
+        CsrGraph<String> graph = randomCsr(9, 60_000, 50_000, false, 100);
+
+        AlgorithmResult sequential = SpanningForest.findMSF(graph);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        AlgorithmResult parallel;
+        try {
+            parallel = SpanningForest.findMSF(graph, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(ConnectedComponents.sequential(graph).getCount(), sequential.components.size());
+        assertEquals(sequential.components.size(), parallel.components.size());
+        assertEquals(sequential.totalCost, parallel.totalCost, 1e-6);
+        assertEquals(KruskalAlgorithm.findMST(graph).totalCost, sequential.totalCost, 1e-6);
+        for (int c = 0; c < sequential.components.size(); c++) {
+            assertEquals(sequential.components.get(c).totalCost, parallel.components.get(c).totalCost, 1e-6);
+        }
+    }
+
+    // dense prim
+
+    @Test
+    @DisplayName("Dense Prim: same trees as heap Prim")
+    void testDensePrim() {
+        AlgorithmResult simple = DensePrimAlgorithm.findMST(simpleGraph);
+        assertEquals(6.0, simple.totalCost, 0.001);
+        assertEquals(3, simple.mstEdges.size());
+        assertEquals(16.0, DensePrimAlgorithm.findMST(complexGraph).totalCost, 0.001);
+        assertEquals(1, DensePrimAlgorithm.findMST(disconnectedGraph).mstEdges.size(), "Stops at first component");
+        assertEquals(0, DensePrimAlgorithm.findMST(new Graph<String>()).mstEdges.size());
+        assertTrue(simple.phaseTimesMs.containsKey("build"));
+
+        DenseGraph<String> matrix = DenseGraph.from(simpleGraph);
+        assertEquals(4, matrix.getVertexCount());
+        assertEquals(5, matrix.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Dense Prim: complete graph matches Kruskal")
+    void testDensePrimCompleteGraph() throws IOException {
+        int n = 600;
+        List<String> names = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            names.add(GraphGenerator.vertexName(v));
+        }
+        DenseGraph.Builder<String> builder = DenseGraph.builder(names);
+        new GraphGenerator(3, 1_000_000).complete(n, builder::edge);
+        DenseGraph<String> matrix = builder.build();
+        assertEquals(n * (n - 1) / 2, matrix.getEdgeCount());
+
+        int m = matrix.getEdgeCount();
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        int e = 0;
+        for (int u = 0; u < n; u++) {
+            for (int v = u + 1; v < n; v++) {
+                sources[e] = u;
+                targets[e] = v;
+                weights[e++] = matrix.weight(u, v);
+            }
+        }
+        CsrGraph<String> csr = CsrGraph.of(names, sources, targets, weights);
+
+        AlgorithmResult dense = DensePrimAlgorithm.findMST(matrix);
+        assertEquals(n - 1, dense.mstEdges.size());
+        assertEquals(KruskalAlgorithm.findMST(csr).totalCost, dense.totalCost, 1e-6);
+        assertEquals(dense.totalCost, DensePrimAlgorithm.findMST(csr).totalCost, 1e-6);
+    }
+
+    // dynamic
+
+    @Test
+    @DisplayName("Dynamic MST: insertions match recomputing from scratch")
+    void testDynamicMST() {
+        Random random = new Random(11);
+        int n = 300;
+        List<Vertex<String>> vertices = new ArrayList<>();
+        DynamicMST<String> dynamic = new DynamicMST<>(disconnectedGraph);
+        for (int v = 0; v < n; v++) {
+            Vertex<String> vertex = new Vertex<>("V" + v);
+            vertices.add(vertex);
+            dynamic.addVertex(vertex);
+        }
+        assertEquals(KruskalAlgorithm.findMST(disconnectedGraph).totalCost, dynamic.getTotalCost(), 1e-6);
+
+        for (int i = 1; i <= 3000; i++) {
+            Vertex<String> u = vertices.get(random.nextInt(n));
+            Vertex<String> v = vertices.get(random.nextInt(n));
+            if (u.equals(v) || disconnectedGraph.isAdjacent(u, v)) {
+                continue;
+            }
+            dynamic.addEdge(u, v, 1 + random.nextInt(1000));
+
+            if (i % 250 == 0) {
+                AlgorithmResult expected = KruskalAlgorithm.findMST(disconnectedGraph);
+                assertEquals(expected.totalCost, dynamic.getTotalCost(), 1e-6);
+                assertEquals(expected.mstEdges.size(), dynamic.getTreeEdgeCount());
+            }
+        }
+
+        AlgorithmResult snapshot = dynamic.toResult();
+        assertEquals(dynamic.getTreeEdgeCount(), snapshot.mstEdges.size());
+        assertEquals(dynamic.getTotalCost(), snapshot.totalCost, 1e-6);
+        assertThrows(IllegalArgumentException.class,
+                () -> dynamic.addEdge(vertices.get(0), new Vertex<>("missing"), 1.0));
+    }
+
+    // selector
+
+    @Test
+    @DisplayName("Selector: profile, picked engine and its result")
+    void testSelector() {
+        List<String> names = List.of("A", "B", "C", "D");
+        CsrGraph<String> graph = CsrGraph.of(names,
+                new int[]{0, 1, 2, 3, 0}, new int[]{1, 2, 3, 0, 2}, new double[]{1, 2, 3, 4, 5});
+
+        MSTSelector.Profile profile = MSTSelector.Profile.of(graph);
+        assertEquals(4, profile.vertices);
+        assertEquals(5, profile.edges);
+        assertEquals(5.0 / 6.0, profile.density, 1e-9);
+        assertTrue(profile.radixPasses >= 1 && profile.radixPasses <= 8);
+        assertEquals(0, MSTSelector.Profile.of(CsrGraph.of(names,
+                new int[]{0, 1}, new int[]{1, 2}, new double[]{7, 7})).radixPasses);
+
+        MSTSelector.Selection selection = new MSTSelector().findMST(graph);
+        assertEquals(6.0, selection.result.totalCost, 1e-9);
+        assertEquals(3, selection.result.mstEdges.size());
+        for (MSTSelector.Engine engine : MSTSelector.Engine.values()) {
+            assertEquals(6.0, MSTSelector.run(engine, graph).totalCost, 1e-9);
+        }
+    }
+
+    @Test
+    @DisplayName("Selector: cost model fit, save and load")
+    void testCostModel() throws IOException {
+        // time = 2 ms + 5 ns per unit
+        List<double[]> points = new ArrayList<>();
+        for (int work = 1_000_000; work <= 5_000_000; work += 1_000_000) {
+            points.add(new double[]{work, 2.0 + work * 5e-6});
+        }
+        double[] line = MSTCostModel.fit(points);
+        assertEquals(2.0, line[0], 1e-6);
+        assertEquals(5.0, line[1], 1e-6);
+
+        // a model that makes Kruskal far cheaper than anything else
+        Path file = tempDir.resolve("model.properties");
+        Files.write(file, List.of("kruskal.intercept_ms=0", "kruskal.ns_per_unit=0.001",
+                "heap_prim.intercept_ms=100"), StandardCharsets.UTF_8);
+        MSTCostModel model = MSTCostModel.load(file);
+        assertEquals(100.0, model.getInterceptMs(MSTSelector.Engine.HEAP_PRIM), 1e-9);
+        assertEquals(MSTCostModel.defaults().getNanosPerUnit(MSTSelector.Engine.BORUVKA),
+                model.getNanosPerUnit(MSTSelector.Engine.BORUVKA), 1e-9);
+
+        MSTSelector.Profile profile = new MSTSelector.Profile(10_000, 50_000, 3, 1);
+        assertEquals(MSTSelector.Engine.KRUSKAL, new MSTSelector(model).select(profile));
+
+        // a matrix this large never fits, whatever the model says
+        Path dense = tempDir.resolve("dense.properties");
+        Files.write(dense, List.of("dense_prim.ns_per_unit=0"), StandardCharsets.UTF_8);
+        MSTSelector.Profile huge = new MSTSelector.Profile(DenseGraph.MAX_VERTICES + 1, 1_000_000_000, 2, 1);
+        assertNotEquals(MSTSelector.Engine.DENSE_PRIM, new MSTSelector(MSTCostModel.load(dense)).select(huge));
+        // nor does a sparse graph, the matrix would be mostly empty
+        MSTSelector.Profile sparse = new MSTSelector.Profile(30, 54, 1, 1);
+        assertTrue(sparse.density < MSTSelector.DENSE_MIN_DENSITY);
+        assertNotEquals(MSTSelector.Engine.DENSE_PRIM, new MSTSelector(MSTCostModel.load(dense)).select(sparse));
+
+        // defaults: heap Prim on small sparse graphs, Kruskal on larger ones, the matrix when complete
+        MSTSelector defaults = new MSTSelector();
+        assertEquals(MSTSelector.Engine.HEAP_PRIM, defaults.select(new MSTSelector.Profile(6, 9, 1, 1)));
+        assertEquals(MSTSelector.Engine.HEAP_PRIM, defaults.select(sparse));
+        assertEquals(MSTSelector.Engine.KRUSKAL, defaults.select(new MSTSelector.Profile(2_000, 8_000, 3, 1)));
+        assertEquals(MSTSelector.Engine.DENSE_PRIM, defaults.select(new MSTSelector.Profile(1_000, 499_500, 3, 1)));
+
+        Path saved = tempDir.resolve("saved.properties");
+        model.save(saved);
+        MSTCostModel reloaded = MSTCostModel.load(saved);
+        for (MSTSelector.Engine engine : MSTSelector.Engine.values()) {
+            assertEquals(model.getInterceptMs(engine), reloaded.getInterceptMs(engine), 1e-12);
+            assertEquals(model.getNanosPerUnit(engine), reloaded.getNanosPerUnit(engine), 1e-12);
+        }
+        assertEquals(model.fingerprint(), reloaded.fingerprint());
+        assertNotEquals(MSTCostModel.defaults().fingerprint(), model.fingerprint());
+    }
+
+    // metrics
+
+    @Test
+    @DisplayName("Metrics: breakdown by category adds up to the total")
+    void testOperationBreakdown() {
+        CsrGraph<String> graph = CsrGraph.from(complexGraph);
+
+        AlgorithmResult kruskal = KruskalAlgorithm.findMST(graph);
+        assertTrue(kruskal.operationBreakdown.get("unions") > 0, "Unions counted");
+        assertTrue(kruskal.operationBreakdown.get("finds") > 0, "Finds counted");
+        assertTrue(kruskal.phaseTimesMs.containsKey("sort"), "Sort phase timed");
+        assertEquals(kruskal.operationsCount,
+                kruskal.operationBreakdown.values().stream().mapToLong(Long::longValue).sum());
+
+        AlgorithmResult prim = PrimAlgorithm.findMST(graph);
+        assertTrue(prim.operationBreakdown.get("heap_operations") > 0, "Heap operations counted");
+        assertTrue(prim.operationBreakdown.get("edge_examinations") > 0, "Edge examinations counted");
+    }
+
+    @Test
+    @DisplayName("Metrics: allocation and heap readings recorded")
+    void testAllocationProfile() {
+        AlgorithmResult result = KruskalAlgorithm.findMST(complexGraph);
+
+        assertTrue(result.allocatedBytes > 0, "Sorted edge copy is allocated");
+        assertTrue(result.peakHeapBytes > 0, "Peak heap read");
+        assertTrue(result.gcCount >= 0 && result.gcTimeMs >= 0, "GC figures are deltas");
+    }
+
+    @Test
+    @DisplayName("Metrics: overlapping runs on two graphs drop the JVM wide figures")
+    void testConcurrentRunsMemoryReadings() throws Exception {
+        Graph<String> other = createComplexGraph();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+
+        // the first graph's run is held open while the second graph is solved on another thread
+        Future<AlgorithmResult> first = ForkJoinPool.commonPool().submit(() -> {
+            PerformanceMetrics metrics = PerformanceMetrics.create();
+            metrics.start();
+            started.countDown();
+            finished.await();
+            AlgorithmResult result = KruskalAlgorithm.findMST(complexGraph);
+            metrics.stop();
+            metrics.record(result);
+            return result;
+        });
+        started.await();
+        AlgorithmResult second = KruskalAlgorithm.findMST(other);
+        finished.countDown();
+        AlgorithmResult held = first.get();
+
+        for (AlgorithmResult result : List.of(held, second)) {
+            assertEquals(16.0, result.totalCost, 0.001);
+            assertEquals(-1, result.peakHeapBytes, "Peak heap not attributed");
+            assertEquals(-1, result.gcCount, "GC count not attributed");
+            assertEquals(-1, result.gcTimeMs, "GC time not attributed");
+            assertTrue(result.allocatedBytes > 0, "Allocation stays per thread");
+        }
+
+        // alone again, the readings come back
+        AlgorithmResult alone = KruskalAlgorithm.findMST(complexGraph);
+        assertTrue(alone.peakHeapBytes > 0);
+        assertTrue(alone.gcCount >= 0);
+    }
+
+    @Test
+    @DisplayName("Metrics: timing only metrics drop every counter")
+    void testTimingOnlyMetrics() {
+        PerformanceMetrics metrics = PerformanceMetrics.timingOnly();
+        metrics.start();
+        metrics.increment(PerformanceMetrics.Counter.FINDS);
+        metrics.add(PerformanceMetrics.Counter.EDGE_EXAMINATIONS, 10);
+        metrics.stop();
+
+        assertFalse(metrics.isCounting());
+        assertEquals(0, metrics.getOperationsCount());
+        assertTrue(metrics.getOperationBreakdown().isEmpty());
+        assertTrue(metrics.getExecutionTimeNs() >= 0);
+    }
+
     // comparison
 
     @Test
@@ -0,0 +1,90 @@
+package algo_analysis.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+
+    @Test
+    @DisplayName("Batch: results keep input order")
+    void testResultsInInputOrder() throws InterruptedException {
+        List<Integer> inputs = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        List<Integer> outputs = new ArrayList<>();
+
+        try (BatchRunner runner = BatchRunner.platformThreads(4, 8)) {
+            runner.run(inputs.iterator(), i -> {
+                // later inputs finish first
+                sleep(50 - i);
+                return i * 2;
+            }, outputs::add);
+        }
+
+        assertEquals(50, outputs.size());
+        for (int i = 0; i < outputs.size(); i++) {
+            assertEquals(i * 2, outputs.get(i), "Output order matches input order");
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: in-flight tasks are bounded")
+    void testInFlightBound() throws InterruptedException {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Integer> inputs = IntStream.range(0, 40).boxed().collect(Collectors.toList());
+
+        try (BatchRunner runner = BatchRunner.platformThreads(8, 3)) {
+            runner.run(inputs.iterator(), i -> {
+                peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+                return i;
+            }, i -> { });
+        }
+
+        assertTrue(peak.get() <= 3, "At most 3 tasks run at once");
+    }
+
+    @Test
+    @DisplayName("Batch: task failure is rethrown")
+    void testFailurePropagates() throws InterruptedException {
+        List<Integer> inputs = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+        try (BatchRunner runner = BatchRunner.platformThreads(2, 4)) {
+            assertThrows(IllegalArgumentException.class, () -> runner.run(inputs.iterator(), i -> {
+                if (i == 5) {
+                    throw new IllegalArgumentException("Vertex already exists.");
+                }
+                return i;
+            }, i -> { }));
+        }
+    }
+
+    @Test
+    @DisplayName("Batch: close keeps the interrupt flag instead of throwing")
+    void testCloseWhenInterrupted() {
+        BatchRunner runner = BatchRunner.platformThreads(1, 1);
+        Thread.currentThread().interrupt();
+        try {
+            runner.close();
+            assertTrue(Thread.currentThread().isInterrupted(), "Interrupt flag restored");
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package algo_analysis.batch;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.TrialStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrialRunnerTest {
+
+    @Test
+    @DisplayName("Trials: warm-up runs are discarded, the last trial is returned")
+    void testRunCounts() {
+        AtomicInteger calls = new AtomicInteger();
+        TrialRunner runner = new TrialRunner(3, 5);
+
+        AlgorithmResult result = runner.run(() -> {
+            AlgorithmResult run = new AlgorithmResult();
+            // warm-up runs are slow, trials take 1..5 ms
+            int call = calls.incrementAndGet();
+            run.executionTimeMs = call <= 3 ? 100.0 : call - 3;
+            run.operationsCount = call;
+            return run;
+        });
+
+        assertEquals(8, calls.get());
+        assertEquals(8, result.operationsCount, "Last trial's result");
+        assertEquals(3, result.trialStats.warmup);
+        assertEquals(5, result.trialStats.trials);
+        assertEquals(1.0, result.trialStats.minMs);
+        assertEquals(3.0, result.trialStats.medianMs);
+        assertEquals(3.0, result.executionTimeMs, "Execution time is the median");
+        assertEquals(5.0, result.trialStats.p99Ms);
+        assertEquals(3.0, result.trialStats.meanMs, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Trials: order statistics and spread")
+    void testSummarize() {
+        double[] times = new double[100];
+        for (int i = 0; i < times.length; i++) {
+            times[times.length - 1 - i] = i + 1;
+        }
+        TrialStats stats = TrialRunner.summarize(times, 0);
+        assertEquals(1.0, stats.minMs);
+        assertEquals(50.5, stats.medianMs, "Even count averages the middle pair");
+        assertEquals(90.0, stats.p90Ms);
+        assertEquals(99.0, stats.p99Ms);
+        assertEquals(50.5, stats.meanMs, 1e-9);
+        assertEquals(Math.sqrt(841.6666666666666), stats.stddevMs, 1e-9);
+        assertEquals(1000.0 / 50.5, stats.opsPerSec, 1e-9);
+
+        TrialStats single = TrialRunner.summarize(new double[]{2.0}, 1);
+        assertEquals(2.0, single.p99Ms);
+        assertEquals(0.0, single.stddevMs, "No spread for one trial");
+        assertEquals(500.0, single.opsPerSec, 1e-9);
+    }
+
+    @Test
+    @DisplayName("Trials: invalid counts rejected")
+    void testInvalidCounts() {
+        assertThrows(IllegalArgumentException.class, () -> new TrialRunner(-1, 5));
+        assertThrows(IllegalArgumentException.class, () -> new TrialRunner(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> TrialRunner.summarize(new double[0], 0));
+    }
+
+    @Test
+    @DisplayName("Trials: options parse and enable benchmark mode")
+    void testOptions() {
+        assertNull(BatchOptions.parse(new String[0]).createTrialRunner(), "Single run by default");
+
+        TrialRunner runner = BatchOptions.parse(new String[]{"--trials", "30", "--warmup", "0"}).createTrialRunner();
+        assertEquals(30, runner.getTrials());
+        assertEquals(0, runner.getWarmup());
+        assertThrows(IllegalArgumentException.class, () -> BatchOptions.parse(new String[]{"--warmup", "-2"}));
+    }
+}
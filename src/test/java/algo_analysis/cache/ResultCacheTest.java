@@ -0,0 +1,208 @@
+package algo_analysis.cache;
+
+import algo_analysis.algorithms.MSTCostModel;
+import algo_analysis.batch.BatchOptions;
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.ComponentResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+import algo_analysis.dto.GraphResult;
+import algo_analysis.dto.TrialStats;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResultCacheTest {
+    @TempDir
+    Path tempDir;
+
+    private static GraphData graph(int id, List<String> nodes, EdgeInfo... edges) {
+        GraphData data = new GraphData();
+        data.id = id;
+        data.nodes = new ArrayList<>(nodes);
+        data.edges = new ArrayList<>(Arrays.asList(edges));
+        return data;
+    }
+
+    private static GraphResult result(int id, int edges) {
+        GraphResult result = new GraphResult(id, edges + 1, edges);
+        result.primResult = new AlgorithmResult();
+        for (int e = 0; e < edges; e++) {
+            result.primResult.mstEdges.add(new EdgeInfo("V" + e, "V" + (e + 1), e));
+        }
+        return result;
+    }
+
+    // fingerprint
+
+    @Test
+    @DisplayName("Fingerprint: id, edge order and edge direction don't matter")
+    void testFingerprintCanonical() {
+        GraphData original = graph(1, List.of("A", "B", "C"),
+                new EdgeInfo("A", "B", 1), new EdgeInfo("B", "C", 2), new EdgeInfo("A", "C", 3));
+        GraphData reordered = graph(7, List.of("A", "C", "B"),
+                new EdgeInfo("C", "A", 3), new EdgeInfo("A", "B", 1), new EdgeInfo("C", "B", 2));
+
+        String fingerprint = GraphFingerprint.of(original);
+        assertEquals(64, fingerprint.length());
+        assertEquals(fingerprint, GraphFingerprint.of(reordered));
+    }
+
+    @Test
+    @DisplayName("Fingerprint: weights, edges and the start node change it")
+    void testFingerprintSensitive() {
+        GraphData original = graph(1, List.of("A", "B", "C"),
+                new EdgeInfo("A", "B", 1), new EdgeInfo("B", "C", 2));
+        String fingerprint = GraphFingerprint.of(original);
+
+        assertNotEquals(fingerprint, GraphFingerprint.of(graph(1, List.of("A", "B", "C"),
+                new EdgeInfo("A", "B", 1), new EdgeInfo("B", "C", 2.5))), "Weight");
+        assertNotEquals(fingerprint, GraphFingerprint.of(graph(1, List.of("A", "B", "C"),
+                new EdgeInfo("A", "B", 1), new EdgeInfo("A", "C", 2))), "Endpoint");
+        assertNotEquals(fingerprint, GraphFingerprint.of(graph(1, List.of("A", "B", "C"),
+                new EdgeInfo("A", "B", 1), new EdgeInfo("B", "C", 2), new EdgeInfo("B", "C", 2))), "Parallel edge");
+        assertNotEquals(fingerprint, GraphFingerprint.of(graph(1, List.of("B", "A", "C"),
+                new EdgeInfo("A", "B", 1), new EdgeInfo("B", "C", 2))), "Prim's start node");
+        assertNotEquals(GraphFingerprint.of(graph(1, List.of("ab", "c"))),
+                GraphFingerprint.of(graph(1, List.of("a", "bc"))), "Name boundaries");
+    }
+
+    // cache
+
+    @Test
+    @DisplayName("Cache: hits return a copy with the requested id, misses are counted")
+    void testHitsAndMisses() {
+        ResultCache cache = new ResultCache(10, 1 << 20);
+        GraphResult stored = result(1, 3);
+
+        assertNull(cache.get("a", 1));
+        cache.put("a", stored);
+        GraphResult hit = cache.get("a", 42);
+
+        assertEquals(42, hit.graphId);
+        assertEquals(1, stored.graphId, "Stored result keeps its id");
+        assertSame(stored.primResult, hit.primResult);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(List.of("hits", "misses", "evictions", "entries", "bytes"), new ArrayList<>(cache.stats().keySet()));
+    }
+
+    @Test
+    @DisplayName("Cache: least recently used entry is evicted first")
+    void testLruEviction() {
+        ResultCache cache = new ResultCache(2, 1 << 20);
+        cache.put("a", result(1, 1));
+        cache.put("b", result(2, 1));
+        assertNotNull(cache.get("a", 1), "a is now the most recent");
+        cache.put("c", result(3, 1));
+
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.getEvictions());
+        assertNull(cache.get("b", 2), "b was evicted");
+        assertNotNull(cache.get("a", 1));
+        assertNotNull(cache.get("c", 3));
+    }
+
+    @Test
+    @DisplayName("Cache: size bound evicts large results, oversized ones are not stored")
+    void testSizeEviction() {
+        long small = ResultCodec.estimateBytes(result(1, 10));
+        ResultCache cache = new ResultCache(100, 3 * small);
+        for (int i = 0; i < 5; i++) {
+            cache.put("k" + i, result(i, 10));
+        }
+        assertEquals(3, cache.size());
+        assertEquals(3 * small, cache.getBytes());
+
+        cache.put("huge", result(9, 10_000));
+        assertNull(cache.get("huge", 9));
+        assertEquals(3, cache.size(), "Oversized result evicts nothing");
+
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(1, 0));
+    }
+
+    @Test
+    @DisplayName("Cache: save and load keep entries, contents and LRU order")
+    void testPersistence() throws IOException {
+        ResultCache cache = new ResultCache(3, 1 << 20);
+        GraphResult full = result(5, 2);
+        full.components = 2;
+        full.largestComponent = 3;
+        full.primResult.totalCost = 1.0;
+        full.primResult.operationBreakdown.put("heap_steps", 12L);
+        full.primResult.phaseTimesMs.put("main_loop", 0.5);
+        full.primResult.trialStats = new TrialStats();
+        full.primResult.trialStats.trials = 20;
+        full.primResult.trialStats.p99Ms = 1.25;
+        full.autoEngine = "kruskal";
+        full.autoResult = new AlgorithmResult();
+        full.forestResult = new AlgorithmResult();
+        full.forestResult.components.add(new ComponentResult(2, 4.0,
+                new ArrayList<>(Collections.singletonList(new EdgeInfo("Ä", "B", 4.0)))));
+        cache.put("full", full);
+        cache.put("other", result(6, 1));
+        cache.get("full", 5);
+
+        Path file = tempDir.resolve("cache.bin");
+        cache.save(file);
+
+        ResultCache loaded = new ResultCache(3, 1 << 20);
+        loaded.load(file);
+        assertEquals(2, loaded.size());
+        assertEquals(0, loaded.getHits());
+
+        GraphResult copy = loaded.get("full", 8);
+        assertEquals(2, copy.components);
+        assertEquals(3, copy.largestComponent);
+        assertEquals(2, copy.primResult.mstEdges.size());
+        assertEquals("V1", copy.primResult.mstEdges.get(1).from);
+        assertEquals(12L, copy.primResult.operationBreakdown.get("heap_steps"));
+        assertEquals(0.5, copy.primResult.phaseTimesMs.get("main_loop"));
+        assertEquals(1.25, copy.primResult.trialStats.p99Ms);
+        assertEquals("kruskal", copy.autoEngine);
+        assertNull(copy.kruskalResult);
+        assertEquals("Ä", copy.forestResult.components.get(0).mstEdges.get(0).from);
+
+        // "other" was the least recently used when saved
+        loaded.put("new", result(7, 1));
+        loaded.put("newer", result(8, 1));
+        assertNull(loaded.get("other", 6));
+        assertNotNull(loaded.get("full", 5));
+    }
+
+    @Test
+    @DisplayName("Cache: other files are rejected")
+    void testLoadRejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("not-a-cache.bin");
+        Files.write(file, new byte[]{'M', 'S', 'T', 'G', 0, 0, 0, 1});
+        assertThrows(IOException.class, () -> new ResultCache(1, 1024).load(file));
+    }
+
+    @Test
+    @DisplayName("Cache: the key follows the cost model's contents, not its file")
+    void testCacheTagCostModel() throws IOException {
+        Path file = tempDir.resolve("model.properties");
+        BatchOptions options = BatchOptions.parse(new String[]{"--auto", "--cost-model", file.toString()});
+
+        Files.write(file, List.of("kruskal.ns_per_unit=1"));
+        String first = options.cacheTag(MSTCostModel.load(file));
+        assertEquals(first, options.cacheTag(MSTCostModel.load(file)));
+
+        // recalibrated into the same file
+        Files.write(file, List.of("kruskal.ns_per_unit=2"));
+        assertNotEquals(first, options.cacheTag(MSTCostModel.load(file)));
+        assertEquals(BatchOptions.parse(new String[0]).cacheTag(null),
+                BatchOptions.parse(new String[0]).cacheTag(MSTCostModel.defaults()));
+    }
+}
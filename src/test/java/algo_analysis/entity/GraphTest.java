@@ -0,0 +1,168 @@
+package algo_analysis.entity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphTest {
+    private Graph<String> graph;
+    private Vertex<String> a;
+    private Vertex<String> b;
+    private Vertex<String> c;
+
+    @BeforeEach
+    void setUp() {
+        graph = new Graph<>();
+        a = new Vertex<>("A");
+        b = new Vertex<>("B");
+        c = new Vertex<>("C");
+        graph.addVertex(a);
+        graph.addVertex(b);
+        graph.addVertex(c);
+        graph.addEdge(a, b, 1);
+        graph.addEdge(b, c, 2);
+    }
+
+    @Test
+    @DisplayName("Views: read-only and follow later changes")
+    void testViews() {
+        Set<Edge<String>> edges = graph.getEdgesView();
+        Set<Vertex<String>> neighbors = graph.getNeighborsView(b);
+
+        assertThrows(UnsupportedOperationException.class, () -> edges.clear());
+        assertThrows(UnsupportedOperationException.class, () -> graph.getVerticesView().add(new Vertex<>("D")));
+        assertSame(edges, graph.getEdgesView(), "No new view per call");
+
+        graph.addEdge(a, c, 3);
+        assertEquals(3, edges.size(), "Edge view sees the new edge");
+        assertEquals(2, neighbors.size());
+        assertEquals(2, graph.getNeighborsView(a).size(), "Neighbour view sees the new edge");
+        assertThrows(IllegalArgumentException.class, () -> graph.getNeighborsView(new Vertex<>("Z")));
+    }
+
+    @Test
+    @DisplayName("Views: callbacks visit every element once")
+    void testForEach() {
+        List<Edge<String>> edges = new ArrayList<>();
+        graph.forEachEdge(edges::add);
+        assertEquals(2, edges.size());
+
+        Set<Vertex<String>> neighbors = new HashSet<>();
+        graph.forEachNeighbor(b, neighbors::add);
+        assertEquals(Set.of(a, c), neighbors);
+
+        List<Vertex<String>> vertices = new ArrayList<>();
+        graph.forEachVertex(vertices::add);
+        assertEquals(3, vertices.size());
+    }
+
+    @Test
+    @DisplayName("Edges: lookup by pair in either direction with weight")
+    void testEdgeLookup() {
+        assertEquals(1.0, graph.getEdge(b, a).orElseThrow().getWeight());
+        assertEquals(2.0, graph.getEdgeWeight(c, b).getAsDouble());
+        assertTrue(graph.getEdge(a, c).isEmpty());
+        assertTrue(graph.getEdgeWeight(a, c).isEmpty());
+        assertEquals(2, graph.degree(b));
+
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdge(b, a, 5), "One edge per pair");
+    }
+
+    @Test
+    @DisplayName("Edges: removal updates both endpoints and the edge set")
+    void testEdgeRemoval() {
+        graph.removeEdge(a, b, 99);
+        assertTrue(graph.isAdjacent(a, b), "Weight must match");
+
+        graph.removeEdge(b, a, 1);
+        assertFalse(graph.isAdjacent(a, b));
+        assertFalse(graph.isAdjacent(b, a));
+        assertEquals(1, graph.getEdgeCount());
+
+        assertTrue(graph.removeEdge(c, b));
+        assertFalse(graph.removeEdge(c, b));
+        assertEquals(0, graph.getEdgeCount());
+        assertEquals(0, graph.degree(b));
+    }
+
+    @Test
+    @DisplayName("Edges: weighted neighbour traversal")
+    void testWeightedNeighbors() {
+        double[] total = {0};
+        graph.forEachWeightedNeighbor(b, (neighbor, weight) -> total[0] += weight);
+        assertEquals(3.0, total[0]);
+        assertEquals(2, graph.getIncidentEdgesView(b).size());
+    }
+
+    @Test
+    @DisplayName("Vertices: removal drops incident edges and the data index entry")
+    void testRemoveVertex() {
+        graph.removeVertex(b);
+
+        assertEquals(2, graph.getVertexCount());
+        assertEquals(0, graph.getEdgeCount());
+        assertEquals(0, graph.degree(a));
+        assertEquals(0, graph.degree(c));
+        assertTrue(graph.getVertexByData("B").isEmpty());
+        assertSame(a, graph.getVertexByData("A").orElseThrow(), "Lookup returns the stored vertex");
+        assertThrows(IllegalArgumentException.class, () -> graph.removeVertex(b));
+    }
+
+    @Test
+    @DisplayName("Vertices: bulk removal validates before removing anything")
+    void testRemoveVertices() {
+        assertThrows(IllegalArgumentException.class,
+                () -> graph.removeVertices(List.of(a, new Vertex<>("Z"))));
+        assertEquals(3, graph.getVertexCount(), "Nothing removed");
+
+        graph.removeVertices(List.of(a, c, a));
+        assertEquals(1, graph.getVertexCount());
+        assertEquals(0, graph.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Edges: bulk add is rolled back on a bad edge")
+    void testAddEdges() {
+        Vertex<String> d = new Vertex<>("D");
+        graph.addVertex(d);
+
+        assertThrows(IllegalArgumentException.class, () -> graph.addEdges(List.of(
+                new Edge<>(a, d, 4), new Edge<>(c, d, 5), new Edge<>(a, b, 6))));
+        assertEquals(2, graph.getEdgeCount(), "Earlier edges of the batch rolled back");
+        assertFalse(graph.isAdjacent(a, d));
+
+        graph.addEdges(List.of(new Edge<>(a, d, 4), new Edge<>(c, d, 5)));
+        assertEquals(4, graph.getEdgeCount());
+        assertEquals(2, graph.degree(d));
+    }
+
+    @Test
+    @DisplayName("Vertices: removing many vertices from a large graph")
+    void testPruneLargeGraph() {
+        Graph<Integer> large = new Graph<>();
+        int n = 20_000;
+        List<Vertex<Integer>> vertices = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Vertex<Integer> vertex = new Vertex<>(i);
+            vertices.add(vertex);
+            large.addVertex(vertex);
+        }
+        for (int i = 1; i < n; i++) {
+            large.addEdge(vertices.get(i - 1), vertices.get(i), i);
+        }
+
+        large.removeVertices(vertices.subList(0, n / 2));
+        assertEquals(n / 2, large.getVertexCount());
+        assertEquals(n / 2 - 1, large.getEdgeCount());
+        assertTrue(large.getVertexByData(n - 1).isPresent());
+        assertTrue(large.getVertexByData(0).isEmpty());
+        assertTrue(large.isConnected(), "Iterative search handles a long path");
+    }
+}
@@ -0,0 +1,87 @@
+package algo_analysis.generator;
+
+import algo_analysis.algorithms.BoruvkaAlgorithm;
+import algo_analysis.algorithms.KruskalAlgorithm;
+import algo_analysis.algorithms.PrimAlgorithm;
+import algo_analysis.entity.CsrGraph;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GraphGeneratorTest {
+
+    @Test
+    @DisplayName("Generator: same seed gives the same graph")
+    void testDeterministicBySeed() throws IOException {
+        GeneratedGraph first = new GeneratedGraph(500);
+        GeneratedGraph second = new GeneratedGraph(500);
+        new GraphGenerator(7).random(500, 3000, true, first);
+        new GraphGenerator(7).random(500, 3000, true, second);
+
+        assertEquals(first.getEdgeCount(), second.getEdgeCount());
+        CsrGraph<String> a = first.toCsrGraph();
+        CsrGraph<String> b = second.toCsrGraph();
+        for (int e = 0; e < a.getEdgeCount(); e++) {
+            assertEquals(a.edgeSource(e), b.edgeSource(e));
+            assertEquals(a.edgeTarget(e), b.edgeTarget(e));
+            assertEquals(a.edgeWeight(e), b.edgeWeight(e));
+        }
+    }
+
+    @Test
+    @DisplayName("Generator: random graph is connected, simple and close to the requested size")
+    void testRandomGraph() throws IOException {
+        GeneratedGraph generated = new GeneratedGraph(2000);
+        long edges = new GraphGenerator(11).random(2000, 10000, true, generated);
+
+        assertEquals(edges, generated.getEdgeCount());
+        assertTrue(Math.abs(edges - 10000) < 500, "Edge count near the requested value");
+        assertNoDuplicatePairs(generated.toCsrGraph());
+        assertTrue(generated.toCsrGraph().isConnected());
+    }
+
+    @Test
+    @DisplayName("Generator: every shape is simple and all MST engines agree on it")
+    void testShapesAgreeAcrossEngines() throws IOException {
+        GraphGenerator generator = new GraphGenerator(3);
+        GeneratedGraph[] graphs = {
+                new GeneratedGraph(400), new GeneratedGraph(400),
+                new GeneratedGraph(400), new GeneratedGraph(60)
+        };
+        generator.geometric(400, 0.1, graphs[0]);
+        generator.grid(20, 20, graphs[1]);
+        generator.powerLaw(400, 3, graphs[2]);
+        generator.complete(60, graphs[3]);
+
+        assertEquals(2 * 20 * 19, graphs[1].getEdgeCount(), "Grid has 2 * r * (r - 1) edges");
+        assertEquals(60 * 59 / 2, graphs[3].getEdgeCount());
+
+        for (GeneratedGraph generated : graphs) {
+            CsrGraph<String> csr = generated.toCsrGraph();
+            assertNoDuplicatePairs(csr);
+
+            double kruskal = KruskalAlgorithm.findMST(csr).totalCost;
+            assertEquals(kruskal, BoruvkaAlgorithm.findMST(csr).totalCost, 1e-9);
+            if (csr.isConnected()) {
+                assertEquals(kruskal, PrimAlgorithm.findMST(csr).totalCost, 1e-9);
+                assertEquals(kruskal, PrimAlgorithm.findMST(generated.toGraph(),
+                        PrimAlgorithm.Strategy.EAGER_HEAP).totalCost, 1e-9);
+            }
+        }
+    }
+
+    private static void assertNoDuplicatePairs(CsrGraph<String> graph) {
+        Set<Long> pairs = new HashSet<>();
+        for (int e = 0; e < graph.getEdgeCount(); e++) {
+            int u = Math.min(graph.edgeSource(e), graph.edgeTarget(e));
+            int v = Math.max(graph.edgeSource(e), graph.edgeTarget(e));
+            assertNotEquals(u, v, "No self loops");
+            assertTrue(pairs.add(((long) u << 32) | v), "No parallel edges");
+        }
+    }
+}
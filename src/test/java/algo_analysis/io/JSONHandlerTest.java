@@ -0,0 +1,338 @@
+package algo_analysis.io;
+
+import algo_analysis.dto.AlgorithmResult;
+import algo_analysis.dto.ComponentResult;
+import algo_analysis.dto.EdgeInfo;
+import algo_analysis.dto.GraphData;
+import algo_analysis.dto.GraphResult;
+import algo_analysis.dto.TrialStats;
+import algo_analysis.entity.CsrGraph;
+import algo_analysis.entity.DenseGraph;
+import algo_analysis.entity.Graph;
+import algo_analysis.entity.Vertex;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JSONHandlerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String json) throws IOException {
+        Path file = tempDir.resolve("input.json");
+        Files.write(file, json.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    @DisplayName("Read: graphs, nodes and edges parsed")
+    void testReadInput() throws IOException {
+        Path file = write("{\n  \"graphs\": [\n"
+                + "    {\"id\": 1, \"nodes\": [\"A\", \"B\", \"C\"],\n"
+                + "     \"edges\": [{\"from\": \"A\", \"to\": \"B\", \"weight\": 4},\n"
+                + "               {\"from\": \"B\", \"to\": \"C\", \"weight\": 2.5e0}]},\n"
+                + "    {\"id\": 2, \"nodes\": [], \"edges\": []}\n"
+                + "  ]\n}\n");
+
+        List<GraphData> graphs = JSONHandler.readInput(file.toString());
+
+        assertEquals(2, graphs.size());
+        assertEquals(1, graphs.get(0).id);
+        assertEquals(List.of("A", "B", "C"), graphs.get(0).nodes);
+        assertEquals(2, graphs.get(0).edges.size());
+        assertEquals("B", graphs.get(0).edges.get(1).from);
+        assertEquals(2.5, graphs.get(0).edges.get(1).weight, 0.0);
+        assertEquals(0, graphs.get(1).nodes.size());
+    }
+
+    @Test
+    @DisplayName("Read: names with commas, quotes and escapes")
+    void testReadEscapedNames() throws IOException {
+        Path file = write("{\"graphs\": [{\"id\": 7, \"nodes\": [\"Almaty, KZ\", \"say \\\"hi\\\"\", \"\\u00c5\"],"
+                + "\"edges\": [{\"from\": \"Almaty, KZ\", \"to\": \"say \\\"hi\\\"\", \"weight\": 1}]}]}");
+
+        GraphData graph = JSONHandler.readInput(file.toString()).get(0);
+
+        assertEquals(List.of("Almaty, KZ", "say \"hi\"", "\u00c5"), graph.nodes);
+        assertEquals("Almaty, KZ", graph.edges.get(0).from);
+        assertEquals("say \"hi\"", graph.edges.get(0).to);
+    }
+
+    @Test
+    @DisplayName("Read: unknown keys are skipped")
+    void testReadSkipsUnknownKeys() throws IOException {
+        Path file = write("{\"meta\": {\"source\": [1, {\"x\": \"]\"}]}, \"graphs\": [{\"id\": 3,"
+                + "\"label\": \"road\", \"nodes\": [\"A\", \"B\"], \"edges\": [{\"from\": \"A\", \"to\": \"B\","
+                + "\"weight\": 1, \"directed\": false}]}], \"version\": 2}");
+
+        List<GraphData> graphs = JSONHandler.readInput(file.toString());
+
+        assertEquals(1, graphs.size());
+        assertEquals(3, graphs.get(0).id);
+        assertEquals(1, graphs.get(0).edges.size());
+    }
+
+    @Test
+    @DisplayName("Read: missing graphs array is an error")
+    void testReadMissingGraphs() throws IOException {
+        Path file = write("{\"results\": []}");
+        assertThrows(IOException.class, () -> JSONHandler.readInput(file.toString()));
+    }
+
+    @Test
+    @DisplayName("Read: truncated input is an error")
+    void testReadTruncated() throws IOException {
+        Path file = write("{\"graphs\": [{\"id\": 1, \"nodes\": [\"A");
+        assertThrows(IOException.class, () -> JSONHandler.readInput(file.toString()));
+    }
+
+    @Test
+    @DisplayName("Build: parallel edges keep the lightest")
+    void testBuildGraphParallelEdges() {
+        GraphData data = new GraphData();
+        data.nodes.add("A");
+        data.nodes.add("B");
+        data.edges.add(new EdgeInfo("A", "B", 5));
+        data.edges.add(new EdgeInfo("B", "A", 2));
+        data.edges.add(new EdgeInfo("A", "B", 7));
+
+        Graph<String> graph = JSONHandler.buildGraph(data);
+        assertEquals(1, graph.getEdgeCount());
+        assertEquals(2.0, graph.getEdgeWeight(new Vertex<>("A"), new Vertex<>("B")).getAsDouble());
+    }
+
+    @Test
+    @DisplayName("Write: names are escaped and results streamed in order")
+    void testWriteOutput() throws IOException {
+        Path file = tempDir.resolve("output.json");
+
+        try (JsonResultWriter writer = JSONHandler.openOutput(file.toString())) {
+            for (int id = 1; id <= 2; id++) {
+                GraphResult result = new GraphResult(id, 2, 1);
+                result.primResult = new AlgorithmResult();
+                result.primResult.mstEdges.add(new EdgeInfo("say \"hi\"", "back\\slash", 1.5));
+                result.primResult.totalCost = 1.5;
+                result.primResult.operationBreakdown.put("finds", 3L);
+                result.primResult.phaseTimesMs.put("sort", 0.5);
+                result.kruskalResult = new AlgorithmResult();
+                writer.write(result);
+            }
+        }
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("{\"from\": \"say \\\"hi\\\"\", \"to\": \"back\\\\slash\", \"weight\": 1.5}"),
+                "Quotes and backslashes escaped");
+        assertTrue(json.contains("\"execution_time_ms\": 0.0,\n        \"allocated_bytes\": 0,"),
+                "Allocation written next to the time");
+        assertTrue(json.contains("\"operation_breakdown\": {\"finds\": 3}"), "Breakdown written");
+        assertTrue(json.contains("\"phase_times_ms\": {\"sort\": 0.5}"), "Phases written");
+        assertTrue(json.indexOf("\"graph_id\": 1") < json.indexOf("\"graph_id\": 2"), "Input order kept");
+        assertTrue(json.contains("    },\n    {"), "Results separated by commas");
+        assertTrue(json.endsWith("    }\n  ]\n}\n"), "Array and object closed");
+    }
+
+    @Test
+    @DisplayName("Write: spanning forest lists every component tree")
+    void testWriteForest() throws IOException {
+        Path file = tempDir.resolve("output.json");
+
+        GraphResult result = new GraphResult(1, 3, 1);
+        result.primResult = new AlgorithmResult();
+        result.kruskalResult = new AlgorithmResult();
+        result.forestResult = new AlgorithmResult();
+        result.forestResult.mstEdges.add(new EdgeInfo("A", "B", 2));
+        result.forestResult.totalCost = 2;
+        result.forestResult.components.add(new ComponentResult(2, 2, result.forestResult.mstEdges));
+        result.forestResult.components.add(new ComponentResult(1, 0, List.of()));
+        JSONHandler.writeOutput(file.toString(), List.of(result));
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"spanning_forest\": {"));
+        assertTrue(json.contains("{\"vertices\": 2, \"total_cost\": 2.0, \"mst_edges\": [\n"
+                + "            {\"from\": \"A\", \"to\": \"B\", \"weight\": 2.0}\n          ]},"));
+        assertTrue(json.contains("{\"vertices\": 1, \"total_cost\": 0.0, \"mst_edges\": []}\n        ]"));
+    }
+
+    @Test
+    @DisplayName("Build: dense matrix keeps the lightest parallel edge")
+    void testBuildDenseGraph() {
+        GraphData data = new GraphData();
+        data.nodes = List.of("A", "B", "C");
+        data.edges = List.of(
+                new EdgeInfo("A", "B", 5),
+                new EdgeInfo("B", "A", 2),
+                new EdgeInfo("B", "C", 4),
+                new EdgeInfo("C", "missing", 1),
+                new EdgeInfo("C", "C", 1));
+
+        DenseGraph<String> graph = JSONHandler.buildDenseGraph(data);
+        assertEquals(3, graph.getVertexCount());
+        assertEquals(2, graph.getEdgeCount());
+        assertEquals(2.0, graph.weight(0, 1), 0.0);
+        assertEquals(2.0, graph.weight(1, 0), 0.0);
+        assertFalse(graph.hasEdge(0, 2));
+        assertFalse(graph.hasEdge(2, 2));
+    }
+
+    @Test
+    @DisplayName("Build: repeated node names are one vertex in every representation")
+    void testBuildDuplicateNodes() {
+        GraphData data = new GraphData();
+        data.nodes = List.of("A", "B", "A", "C", "B");
+        data.edges = List.of(
+                new EdgeInfo("A", "B", 1),
+                new EdgeInfo("B", "C", 2),
+                new EdgeInfo("A", "C", 3));
+
+        Graph<String> graph = JSONHandler.buildGraph(data);
+        assertEquals(3, graph.getVertexCount());
+        assertEquals(3, graph.getEdgeCount());
+
+        CsrGraph<String> csr = JSONHandler.buildCsrGraph(data);
+        assertEquals(3, csr.getVertexCount());
+        assertEquals(3, csr.getEdgeCount());
+        assertEquals("C", csr.getVertexData(2));
+
+        DenseGraph<String> dense = JSONHandler.buildDenseGraph(data);
+        assertEquals(3, dense.getVertexCount());
+        assertEquals(3, dense.getEdgeCount());
+    }
+
+    @Test
+    @DisplayName("Write: auto run only has the selected engine")
+    void testWriteAuto() throws IOException {
+        Path file = tempDir.resolve("output.json");
+
+        GraphResult result = new GraphResult(1, 2, 1);
+        result.autoEngine = "kruskal";
+        result.autoResult = new AlgorithmResult();
+        result.autoResult.mstEdges.add(new EdgeInfo("A", "B", 2));
+        result.autoResult.totalCost = 2;
+        JSONHandler.writeOutput(file.toString(), List.of(result));
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertFalse(json.contains("\"prim\""));
+        assertFalse(json.contains("\"kruskal\": {"));
+        assertTrue(json.contains("      },\n      \"auto\": {\n        \"engine\": \"kruskal\",\n        \"mst_edges\": ["));
+        assertTrue(json.endsWith("      }\n    }\n  ]\n}\n"));
+    }
+
+    @Test
+    @DisplayName("Write: trial statistics in benchmark mode")
+    void testWriteTrials() throws IOException {
+        Path file = tempDir.resolve("output.json");
+
+        GraphResult result = new GraphResult(1, 2, 1);
+        result.primResult = new AlgorithmResult();
+        result.primResult.trialStats = new TrialStats();
+        result.primResult.trialStats.warmup = 5;
+        result.primResult.trialStats.trials = 20;
+        result.primResult.trialStats.medianMs = 0.25;
+        result.primResult.trialStats.opsPerSec = 4000.0;
+        JSONHandler.writeOutput(file.toString(), List.of(result));
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"trials\": {\"warmup\": 5, \"count\": 20, \"min_ms\": 0.0, \"median_ms\": 0.25,"));
+        assertTrue(json.contains("\"ops_per_sec\": 4000.0}\n      }"));
+    }
+
+    @Test
+    @DisplayName("Write: cache status per result and counters after the results")
+    void testWriteCache() throws IOException {
+        Path file = tempDir.resolve("output.json");
+
+        GraphResult result = new GraphResult(3, 2, 1);
+        result.cacheStatus = "hit";
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("hits", 1L);
+        stats.put("misses", 0L);
+        try (JsonResultWriter writer = JSONHandler.openOutput(file.toString())) {
+            writer.write(result);
+            writer.setCacheStats(stats);
+        }
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertTrue(json.contains("\"graph_id\": 3,\n      \"cache\": \"hit\",\n"));
+        assertTrue(json.endsWith("    }\n  ],\n  \"cache\": {\"hits\": 1, \"misses\": 0}\n}\n"));
+    }
+
+    @Test
+    @DisplayName("Write: empty result list is valid json")
+    void testWriteEmptyOutput() throws IOException {
+        Path file = tempDir.resolve("output.json");
+        JSONHandler.writeOutput(file.toString(), List.of());
+
+        String json = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        assertEquals("{\n  \"results\": [\n  ]\n}\n", json);
+    }
+
+    @Test
+    @DisplayName("Binary: json converts and reads back the same graphs")
+    void testBinaryRoundTrip() throws IOException {
+        Path json = write("{\"graphs\": ["
+                + "{\"id\": 1, \"nodes\": [\"A\", \"Bé\", \"C\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"Bé\", \"weight\": 4.25},"
+                + "{\"from\": \"Bé\", \"to\": \"C\", \"weight\": -2},"
+                + "{\"from\": \"C\", \"to\": \"missing\", \"weight\": 1}]},"
+                + "{\"id\": 9, \"nodes\": [\"X\"], \"edges\": []}]}");
+        Path binary = tempDir.resolve("input.mstg");
+
+        assertEquals(2, BinaryGraphWriter.convert(json.toString(), binary.toString()));
+
+        try (GraphSource source = JSONHandler.openInput(binary.toString())) {
+            assertTrue(source instanceof BinaryGraphReader, "Binary format detected");
+
+            GraphData first = source.next();
+            assertEquals(1, first.id);
+            assertEquals(List.of("A", "Bé", "C"), first.nodes);
+            assertEquals(2, first.edges.size(), "Edge with unknown endpoint skipped");
+            assertEquals("Bé", first.edges.get(1).from);
+            assertEquals(-2.0, first.edges.get(1).weight, 0.0);
+
+            GraphData second = source.next();
+            assertEquals(9, second.id);
+            assertFalse(source.hasNext());
+        }
+
+        try (BinaryGraphReader reader = BinaryGraphReader.open(binary.toString())) {
+            CsrGraph<String> graph = reader.nextCsrGraph();
+            assertEquals(1, reader.getLastGraphId());
+            assertEquals(3, graph.getVertexCount());
+            assertEquals(2, graph.getEdgeCount());
+            assertEquals(4.25, graph.edgeWeight(0), 0.0);
+        }
+    }
+
+    @Test
+    @DisplayName("Binary: repeated node names are written once")
+    void testBinaryDuplicateNodes() throws IOException {
+        Path json = write("{\"graphs\": [{\"id\": 4, \"nodes\": [\"A\", \"B\", \"A\", \"C\"], \"edges\": ["
+                + "{\"from\": \"A\", \"to\": \"B\", \"weight\": 1},"
+                + "{\"from\": \"C\", \"to\": \"A\", \"weight\": 2}]}]}");
+        Path binary = tempDir.resolve("duplicates.mstg");
+        assertEquals(1, BinaryGraphWriter.convert(json.toString(), binary.toString()));
+
+        try (BinaryGraphReader reader = BinaryGraphReader.open(binary.toString())) {
+            CsrGraph<String> graph = reader.nextCsrGraph();
+            assertEquals(3, graph.getVertexCount());
+            assertEquals(2, graph.getEdgeCount());
+            assertEquals("C", graph.getVertexData(2));
+        }
+        try (GraphSource source = JSONHandler.openInput(binary.toString())) {
+            GraphData data = source.next();
+            assertEquals(List.of("A", "B", "C"), data.nodes);
+            assertEquals("A", data.edges.get(1).to);
+        }
+    }
+}